@@ -0,0 +1,103 @@
+package org.sopt.domain.article.application.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.sopt.domain.article.application.dto.ArticleSummaryResponse;
+import org.sopt.domain.article.application.event.ArticleCreatedEvent;
+import org.sopt.domain.article.domain.repository.ArticleRepository;
+import org.sopt.domain.article.domain.repository.ArticleSummary;
+import org.sopt.global.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 게시글 피드(검색어·필터·정렬 없이 기본 크기로 조회하는 최신순 목록) 앞쪽 몇 페이지를 메모리에 유지한다.
+ *
+ * <p>최신 {@code pages * PAGE_SIZE}건을 쿼리 한 번으로 채워 두고, 각 페이지는 그 구간을 잘라 응답합니다.
+ * 게시글이 작성되면 커밋 직후 맨 앞에 끼워 넣고 끝을 밀어내므로(write-through) 작성 때마다 다시 조회하지 않습니다.
+ * 다른 인스턴스에서 작성된 게시글은 캐시가 만료된 뒤에 보이며, 그 지연은 {@code cache.article-feed.ttl-seconds}로 제한됩니다.</p>
+ */
+@Component
+public class ArticleFeedCache {
+
+	public static final int PAGE_SIZE = 20;
+	public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+	private static final String KEY = "feed";
+
+	private final ArticleRepository articleRepository;
+	private final Cache<Object, Object> cache;
+	private final int pages;
+
+	public ArticleFeedCache(ArticleRepository articleRepository, CacheManager cacheManager,
+		@Value("${cache.article-feed.pages:3}") int pages) {
+		this.articleRepository = articleRepository;
+		this.cache = ((CaffeineCache)cacheManager.getCache(CacheConfig.ARTICLE_FEED)).getNativeCache();
+		this.pages = pages;
+	}
+
+	public boolean covers(Pageable pageable) {
+		return pageable.isPaged()
+			&& pageable.getPageSize() == PAGE_SIZE
+			&& pageable.getPageNumber() < pages
+			&& pageable.getSort().isUnsorted();
+	}
+
+	/**
+	 * {@link #covers(Pageable)}가 true인 요청만 전달해야 합니다. 캐시가 비어 있으면 같은 키의 다른 요청은
+	 * 적재가 끝날 때까지 기다렸다가 그 결과를 함께 사용합니다.
+	 */
+	public Slice<ArticleSummaryResponse> getPage(Pageable pageable) {
+		FeedWindow window = (FeedWindow)cache.get(KEY, key -> load());
+		List<ArticleSummaryResponse> articles = window.articles();
+		int from = (int)Math.min(pageable.getOffset(), articles.size());
+		int to = Math.min(from + pageable.getPageSize(), articles.size());
+		boolean hasNext = to < articles.size() || window.hasMore();
+		return new SliceImpl<>(articles.subList(from, to), pageable, hasNext);
+	}
+
+	@TransactionalEventListener
+	public void onArticleCreated(ArticleCreatedEvent event) {
+		ArticleSummaryResponse created = ArticleSummaryResponse.from(event.summary());
+		// 적재 중이면 적재가 끝난 뒤에 반영되고, 캐시가 비어 있으면 다음 조회가 DB에서 새로 읽는다
+		cache.asMap().computeIfPresent(KEY, (key, window) -> ((FeedWindow)window).prepend(created, capacity()));
+	}
+
+	private FeedWindow load() {
+		Slice<ArticleSummary> slice = articleRepository.findAllSummaries(PageRequest.of(0, capacity(), NEWEST_FIRST));
+		return new FeedWindow(slice.map(ArticleSummaryResponse::from).getContent(), slice.hasNext());
+	}
+
+	private int capacity() {
+		return pages * PAGE_SIZE;
+	}
+
+	/**
+	 * 최신순으로 정렬된 피드 앞부분. hasMore는 이 구간 뒤에 게시글이 더 있는지 여부이다.
+	 */
+	private record FeedWindow(List<ArticleSummaryResponse> articles, boolean hasMore) {
+
+		private FeedWindow prepend(ArticleSummaryResponse article, int capacity) {
+			// 적재 쿼리가 이미 새 게시글을 읽었을 수 있다
+			if (articles.stream().anyMatch(each -> each.id().equals(article.id()))) {
+				return this;
+			}
+			List<ArticleSummaryResponse> shifted = new ArrayList<>(articles.size() + 1);
+			shifted.add(article);
+			shifted.addAll(articles);
+			boolean overflow = shifted.size() > capacity;
+			return new FeedWindow(List.copyOf(overflow ? shifted.subList(0, capacity) : shifted), hasMore || overflow);
+		}
+	}
+}
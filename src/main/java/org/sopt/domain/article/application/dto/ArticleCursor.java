@@ -0,0 +1,43 @@
+package org.sopt.domain.article.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.sopt.domain.article.domain.repository.ArticleSummary;
+import org.sopt.domain.article.exception.ArticleException;
+import org.sopt.global.response.error.ErrorCode;
+
+/**
+ * 게시글 목록 커서 (createdAt, id).
+ * 클라이언트에는 내부 구조를 드러내지 않도록 URL-safe Base64 문자열로만 주고받는다.
+ */
+public record ArticleCursor(
+	LocalDateTime createdAt,
+	Long id
+) {
+	private static final String DELIMITER = "|";
+
+	public static ArticleCursor from(ArticleSummary article) {
+		return new ArticleCursor(article.createdAt(), article.id());
+	}
+
+	public static ArticleCursor decode(String cursor) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+			return new ArticleCursor(
+				LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				Long.parseLong(decoded.substring(delimiterIndex + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new ArticleException(ErrorCode.INVALID_INPUT, "cursor");
+		}
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,21 @@
+package org.sopt.domain.article.application.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 커서 기반 목록 응답")
+public record ArticleScrollResponse(
+	@Schema(description = "게시글 목록")
+	List<ArticleSummaryResponse> articles,
+
+	@Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNC0wMS0wMVQxMDowMDp8MTA")
+	String nextCursor,
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	boolean hasNext
+) {
+	public static ArticleScrollResponse of(List<ArticleSummaryResponse> articles, String nextCursor) {
+		return new ArticleScrollResponse(articles, nextCursor, nextCursor != null);
+	}
+}
@@ -0,0 +1,24 @@
+package org.sopt.domain.article.application.dto;
+
+import java.time.LocalDate;
+
+import org.sopt.domain.article.domain.entity.Tag;
+
+/**
+ * 게시글 목록 조회 조건. 모든 값은 선택이며, 기간은 양 끝 날짜를 포함한다.
+ */
+public record ArticleSearchCondition(
+	String keyword,
+	boolean fuzzy,
+	Tag tag,
+	LocalDate from,
+	LocalDate to
+) {
+	public boolean hasKeyword() {
+		return keyword != null && !keyword.trim().isEmpty();
+	}
+
+	public boolean hasFilter() {
+		return tag != null || from != null || to != null;
+	}
+}
@@ -0,0 +1,13 @@
+package org.sopt.domain.article.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 제목 자동완성 응답")
+public record ArticleSuggestResponse(
+	@Schema(description = "게시글 ID", example = "1")
+	Long id,
+
+	@Schema(description = "게시글 제목", example = "Spring Boot Tutorial")
+	String title
+) {
+}
@@ -0,0 +1,62 @@
+package org.sopt.domain.article.application.dto;
+
+import java.time.LocalDateTime;
+
+import org.sopt.domain.article.domain.entity.Tag;
+import org.sopt.domain.article.domain.repository.ArticleSummary;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시글 목록 항목 응답 (본문 전체는 단건 조회에서만 제공)")
+public record ArticleSummaryResponse(
+	@Schema(description = "게시글 ID", example = "1")
+	Long id,
+
+	@Schema(description = "작성자 ID", example = "1")
+	Long authorId,
+
+	@Schema(description = "작성자 이름", example = "김솝트")
+	String authorName,
+
+	@Schema(description = "게시글 제목", example = "Spring Boot 시작하기")
+	String title,
+
+	@Schema(description = "본문 앞부분 (최대 100자, 잘린 경우 … 으로 끝남)", example = "Spring Boot는...")
+	String excerpt,
+
+	@Schema(description = "태그", example = "SPRING")
+	Tag tag,
+
+	@Schema(description = "생성일시", example = "2024-01-01T10:00:00")
+	LocalDateTime createdAt,
+
+	@Schema(description = "수정일시", example = "2024-01-01T10:00:00")
+	LocalDateTime updatedAt
+) {
+	private static final String ELLIPSIS = "…";
+
+	public static ArticleSummaryResponse from(ArticleSummary summary) {
+		return new ArticleSummaryResponse(
+			summary.id(),
+			summary.authorId(),
+			summary.authorName(),
+			summary.title(),
+			excerpt(summary.contentHead()),
+			summary.tag(),
+			summary.createdAt(),
+			summary.updatedAt()
+		);
+	}
+
+	private static String excerpt(String contentHead) {
+		if (contentHead == null || contentHead.length() <= ArticleSummary.EXCERPT_LENGTH) {
+			return contentHead;
+		}
+		int end = ArticleSummary.EXCERPT_LENGTH;
+		// 서로게이트 쌍(이모지 등)이 반으로 잘리지 않게 한다
+		if (Character.isHighSurrogate(contentHead.charAt(end - 1))) {
+			end--;
+		}
+		return contentHead.substring(0, end) + ELLIPSIS;
+	}
+}
@@ -0,0 +1,29 @@
+package org.sopt.domain.article.application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import org.sopt.domain.article.domain.entity.Tag;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 태그/기간 필터가 적용된 게시글 목록. 일반 페이지 응답에 태그별 건수(tagCounts)가 추가된다.
+ */
+public class FacetedArticlePage extends PageImpl<ArticleSummaryResponse> {
+
+	private final transient Map<Tag, Long> tagCounts;
+
+	public FacetedArticlePage(List<ArticleSummaryResponse> content, Pageable pageable, long total,
+		Map<Tag, Long> tagCounts) {
+		super(content, pageable, total);
+		this.tagCounts = tagCounts;
+	}
+
+	@Schema(description = "태그 필터를 제외한 조건에서의 태그별 게시글 수", example = "{\"CS\": 12, \"DB\": 3, \"SPRING\": 7, \"ETC\": 0}")
+	public Map<Tag, Long> getTagCounts() {
+		return tagCounts;
+	}
+}
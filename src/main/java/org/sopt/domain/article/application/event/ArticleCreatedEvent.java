@@ -0,0 +1,14 @@
+package org.sopt.domain.article.application.event;
+
+import org.sopt.domain.article.domain.entity.Article;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
+import org.sopt.domain.article.domain.repository.ArticleSummary;
+
+public record ArticleCreatedEvent(
+	ArticleIndexRow article,
+	ArticleSummary summary
+) {
+	public static ArticleCreatedEvent from(Article article) {
+		return new ArticleCreatedEvent(ArticleIndexRow.from(article), ArticleSummary.from(article));
+	}
+}
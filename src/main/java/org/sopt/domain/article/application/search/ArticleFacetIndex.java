@@ -0,0 +1,207 @@
+package org.sopt.domain.article.application.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.sopt.domain.article.domain.entity.Tag;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그/작성일 필터와 태그별 건수(facet)를 위한 게시글 ID 비트맵 색인 (프로세스 메모리).
+ *
+ * <p>게시글 ID는 AUTO_INCREMENT로 조밀하게 증가하므로 태그별 {@link BitSet} 하나로 충분히 작습니다.
+ * 작성일은 하루 단위 버킷에 저장하되, 하루치 ID가 좁은 구간에 몰려 있으므로 버킷마다 시작 ID를 기준으로
+ * 한 오프셋 비트맵을 사용합니다. 필터 결과와 모든 태그의 건수는 한 번의 비트 연산으로 함께 계산됩니다.</p>
+ */
+@Component
+public class ArticleFacetIndex {
+
+	private final EnumMap<Tag, BitSet> byTag = new EnumMap<>(Tag.class);
+	private final TreeMap<LocalDate, DayBucket> byDay = new TreeMap<>();
+	private final BitSet all = new BitSet();
+	private final Map<Integer, Placement> placements = new HashMap<>();
+	// 쓰기는 게시글 작성 시에만 일어나므로 단순한 읽기/쓰기 잠금으로 충분하다
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile boolean ready;
+
+	public ArticleFacetIndex() {
+		for (Tag tag : Tag.values()) {
+			byTag.put(tag, new BitSet());
+		}
+	}
+
+	public void add(ArticleIndexRow row) {
+		int id = Math.toIntExact(row.id());
+		Placement placement = new Placement(row.tag(), row.createdAt().toLocalDate());
+		lock.writeLock().lock();
+		try {
+			Placement previous = placements.put(id, placement);
+			if (placement.equals(previous)) {
+				return;
+			}
+			if (previous != null) {
+				clear(id, previous);
+			}
+			all.set(id);
+			if (placement.tag() != null) {
+				byTag.get(placement.tag()).set(id);
+			}
+			byDay.computeIfAbsent(placement.day(), day -> new DayBucket()).set(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 작성일 구간(양 끝 포함, null이면 제한 없음)과 후보 ID로 범위를 좁힌 뒤,
+	 * 지정한 태그에 해당하는 게시글과 모든 태그의 건수를 계산합니다.
+	 *
+	 * @param restrictTo 검색어 결과처럼 미리 정해진 후보가 있을 때만 전달하며, null이면 전체가 후보입니다.
+	 */
+	public Selection select(Tag tag, LocalDate from, LocalDate to, Collection<Long> restrictTo) {
+		lock.readLock().lock();
+		try {
+			BitSet scope = (from == null && to == null) ? (BitSet)all.clone() : createdBetween(from, to);
+			if (restrictTo != null) {
+				scope.and(toBitSet(restrictTo));
+			}
+
+			EnumMap<Tag, Long> tagCounts = new EnumMap<>(Tag.class);
+			BitSet matches = tag == null ? scope : null;
+			for (Map.Entry<Tag, BitSet> entry : byTag.entrySet()) {
+				BitSet tagged = (BitSet)entry.getValue().clone();
+				tagged.and(scope);
+				tagCounts.put(entry.getKey(), (long)tagged.cardinality());
+				if (entry.getKey() == tag) {
+					matches = tagged;
+				}
+			}
+			return new Selection(matches, Collections.unmodifiableMap(tagCounts));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void markReady() {
+		this.ready = true;
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	private BitSet createdBetween(LocalDate from, LocalDate to) {
+		NavigableMap<LocalDate, DayBucket> days = byDay;
+		if (from != null) {
+			days = days.tailMap(from, true);
+		}
+		if (to != null) {
+			days = days.headMap(to, true);
+		}
+		BitSet result = new BitSet();
+		days.values().forEach(bucket -> bucket.orInto(result));
+		return result;
+	}
+
+	private void clear(int id, Placement placement) {
+		if (placement.tag() != null) {
+			byTag.get(placement.tag()).clear(id);
+		}
+		DayBucket bucket = byDay.get(placement.day());
+		if (bucket != null) {
+			bucket.clear(id);
+		}
+	}
+
+	private static BitSet toBitSet(Collection<Long> ids) {
+		BitSet bits = new BitSet();
+		ids.forEach(id -> bits.set(Math.toIntExact(id)));
+		return bits;
+	}
+
+	/**
+	 * 필터 결과. 건수는 정확한 값이며, 태그 필터 자체는 건수 계산 범위에 포함되지 않습니다.
+	 */
+	public static final class Selection {
+
+		private final BitSet matches;
+		private final Map<Tag, Long> tagCounts;
+
+		private Selection(BitSet matches, Map<Tag, Long> tagCounts) {
+			this.matches = matches;
+			this.tagCounts = tagCounts;
+		}
+
+		public boolean contains(Long id) {
+			return id <= Integer.MAX_VALUE && matches.get(id.intValue());
+		}
+
+		public long total() {
+			return matches.cardinality();
+		}
+
+		public Map<Tag, Long> tagCounts() {
+			return tagCounts;
+		}
+
+		/**
+		 * 최신(ID 내림차순) 순서로 offset 이후 최대 limit개의 ID를 반환합니다.
+		 */
+		public List<Long> newestIds(long offset, int limit) {
+			List<Long> ids = new ArrayList<>(limit);
+			long skipped = 0;
+			for (int id = matches.length() - 1; id >= 0 && ids.size() < limit; id = matches.previousSetBit(id - 1)) {
+				if (skipped++ >= offset) {
+					ids.add((long)id);
+				}
+			}
+			return ids;
+		}
+	}
+
+	private record Placement(Tag tag, LocalDate day) {
+	}
+
+	/**
+	 * 하루치 게시글 ID 비트맵. 첫 ID를 기준으로 한 오프셋만 저장한다.
+	 */
+	private static final class DayBucket {
+
+		private int base = -1;
+		private BitSet bits = new BitSet();
+
+		private void set(int id) {
+			if (base < 0) {
+				base = id;
+			} else if (id < base) {
+				// 더 작은 ID가 늦게 들어오면 기준을 옮겨 다시 담는다
+				BitSet rebased = new BitSet();
+				bits.stream().forEach(offset -> rebased.set(offset + base - id));
+				bits = rebased;
+				base = id;
+			}
+			bits.set(id - base);
+		}
+
+		private void clear(int id) {
+			if (base >= 0 && id >= base) {
+				bits.clear(id - base);
+			}
+		}
+
+		private void orInto(BitSet target) {
+			bits.stream().forEach(offset -> target.set(base + offset));
+		}
+	}
+}
@@ -0,0 +1,281 @@
+package org.sopt.domain.article.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.sopt.domain.article.application.dto.ArticleSuggestResponse;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 제목과 작성자 이름에 대한 문자 n-gram 역색인 (프로세스 메모리).
+ *
+ * <p>형태소 분석 없이 한글과 영문 모두 동작하도록 정규화한 문자열의 1-gram, 2-gram을 색인합니다.
+ * 검색어의 n-gram 포스팅을 교집합한 뒤 원문 포함 여부를 한 번 더 확인하므로,
+ * 결과 집합은 기존 {@code LIKE '%keyword%'} 검색과 같고 순서만 관련도 순입니다.</p>
+ *
+ * <p>오타 허용 검색을 위해 제목을 단어 단위로 나눈 용어 사전을 대칭 삭제 색인으로, 제목 자동완성을 위해
+ * 정규화한 제목 전체를 압축 트라이로 함께 유지합니다.</p>
+ */
+@Component
+public class ArticleSearchIndex {
+
+	private static final int TITLE_PREFIX_SCORE = 3;
+	private static final int TITLE_SCORE = 2;
+	private static final int AUTHOR_SCORE = 1;
+	private static final int SUGGESTION_TOP_K = 10;
+
+	private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, IndexedArticle> documents = new ConcurrentHashMap<>();
+	private final TermDeletionIndex titleTerms = new TermDeletionIndex(ArticleSearchIndex::maxEdits);
+	private final TitleSuggestionTrie titleSuggestions = new TitleSuggestionTrie(SUGGESTION_TOP_K);
+	private final AtomicLong maxIndexedId = new AtomicLong();
+	private volatile boolean ready;
+
+	/**
+	 * 게시글을 색인합니다. 같은 내용으로 여러 번 호출해도 결과는 같습니다.
+	 *
+	 * @return 새로 색인되었거나 내용이 바뀐 경우 true
+	 */
+	public boolean add(ArticleIndexRow row) {
+		IndexedArticle document = new IndexedArticle(normalize(row.title()), normalize(row.authorName()));
+		IndexedArticle previous = documents.get(row.id());
+		if (document.equals(previous)) {
+			return false;
+		}
+		if (previous != null) {
+			previous.grams().forEach(gram -> removePosting(gram, row.id()));
+			previous.terms().forEach(term -> titleTerms.remove(term, row.id()));
+			titleSuggestions.remove(previous.title(), row.id());
+		}
+		// 포스팅을 먼저 넣고 문서를 등록한다. 검색은 문서가 등록된 게시글만 결과로 인정한다
+		document.grams().forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet())
+			.add(row.id()));
+		document.terms().forEach(term -> titleTerms.add(term, row.id()));
+		titleSuggestions.add(document.title(), new TitleSuggestionTrie.Suggestion(row.id(), row.title()));
+		documents.put(row.id(), document);
+		maxIndexedId.accumulateAndGet(row.id(), Math::max);
+		return true;
+	}
+
+	/**
+	 * 제목 또는 작성자 이름에 검색어가 포함된 게시글 ID를 관련도 순으로 반환합니다.
+	 * 제목 접두 일치, 제목 포함, 작성자 이름 포함 순이며 같은 점수는 최신 게시글이 먼저입니다.
+	 */
+	public List<Long> search(String keyword) {
+		String query = normalize(keyword);
+		if (query.isEmpty()) {
+			return List.of();
+		}
+
+		List<Set<Long>> candidates = new ArrayList<>();
+		for (String gram : queryGrams(query)) {
+			Set<Long> posting = postings.get(gram);
+			if (posting == null) {
+				return List.of();
+			}
+			candidates.add(posting);
+		}
+		candidates.sort(Comparator.comparingInt(Set::size));
+
+		List<ScoredId> matches = new ArrayList<>();
+		Set<Long> smallest = candidates.get(0);
+		for (Long id : smallest) {
+			if (!containedInAll(candidates, id)) {
+				continue;
+			}
+			IndexedArticle document = documents.get(id);
+			int score = document == null ? 0 : document.score(query);
+			if (score > 0) {
+				matches.add(new ScoredId(id, score));
+			}
+		}
+
+		matches.sort(Comparator.comparingInt(ScoredId::score).reversed()
+			.thenComparing(ScoredId::id, Comparator.reverseOrder()));
+		return matches.stream().map(ScoredId::id).toList();
+	}
+
+	/**
+	 * 오타를 허용하는 검색. 포함 검색 결과를 먼저 두고, 검색어의 모든 단어가 제목 단어와
+	 * 허용 편집 거리 이내로 일치하는 게시글을 거리 합이 작은 순으로 덧붙입니다.
+	 */
+	public List<Long> searchFuzzy(String keyword) {
+		String query = normalize(keyword);
+		if (query.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Integer> distances = null;
+		for (String term : terms(query)) {
+			Map<Long, Integer> termDistances = new HashMap<>();
+			for (TermDeletionIndex.Match match : titleTerms.search(term)) {
+				match.ids().forEach(id -> termDistances.merge(id, match.distance(), Math::min));
+			}
+			distances = distances == null ? termDistances : intersectSum(distances, termDistances);
+			if (distances.isEmpty()) {
+				break;
+			}
+		}
+
+		Set<Long> result = new LinkedHashSet<>(search(query));
+		if (distances != null) {
+			distances.entrySet().stream()
+				.filter(entry -> documents.containsKey(entry.getKey()))
+				.sorted(Map.Entry.<Long, Integer>comparingByValue()
+					.thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+				.forEach(entry -> result.add(entry.getKey()));
+		}
+		return List.copyOf(result);
+	}
+
+	/**
+	 * 정규화한 제목이 접두어로 시작하는 게시글을 최신순으로 최대 {@value #SUGGESTION_TOP_K}개 반환합니다.
+	 */
+	public List<ArticleSuggestResponse> suggest(String prefix, int limit) {
+		return titleSuggestions.suggest(normalize(prefix), Math.min(limit, SUGGESTION_TOP_K)).stream()
+			.map(suggestion -> new ArticleSuggestResponse(suggestion.id(), suggestion.title()))
+			.toList();
+	}
+
+	public void markReady() {
+		this.ready = true;
+	}
+
+	/**
+	 * 기동 시 전체 적재가 끝나기 전에는 결과가 불완전하므로 호출 측에서 DB 검색을 사용해야 합니다.
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	public long getMaxIndexedId() {
+		return maxIndexedId.get();
+	}
+
+	public int getDocumentCount() {
+		return documents.size();
+	}
+
+	public int getGramCount() {
+		return postings.size();
+	}
+
+	public int getTermCount() {
+		return titleTerms.size();
+	}
+
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		// 조합형 한글(NFD)과 전각 문자를 같은 형태로 맞추고, 대소문자와 연속 공백 차이를 없앤다
+		return Normalizer.normalize(text, Normalizer.Form.NFKC)
+			.toLowerCase(Locale.ROOT)
+			.replaceAll("\\s+", " ")
+			.trim();
+	}
+
+	// 짧은 단어일수록 편집 한 번이 전혀 다른 단어를 만들기 쉬우므로 허용 거리를 줄인다
+	// (용어 사전이 길이가 1 늘 때 허용 거리가 최대 1만 늘어난다고 가정하므로 계단을 건너뛰지 않는다)
+	static int maxEdits(String term) {
+		if (term.length() <= 2) {
+			return 0;
+		}
+		return term.length() <= 5 ? 1 : 2;
+	}
+
+	private static Set<String> terms(String text) {
+		Set<String> terms = new LinkedHashSet<>();
+		for (String term : text.split("[^\\p{L}\\p{N}]+")) {
+			if (!term.isEmpty()) {
+				terms.add(term);
+			}
+		}
+		return terms;
+	}
+
+	private static Map<Long, Integer> intersectSum(Map<Long, Integer> left, Map<Long, Integer> right) {
+		Map<Long, Integer> result = new HashMap<>();
+		left.forEach((id, distance) -> {
+			Integer other = right.get(id);
+			if (other != null) {
+				result.put(id, distance + other);
+			}
+		});
+		return result;
+	}
+
+	private void removePosting(String gram, Long id) {
+		postings.computeIfPresent(gram, (key, ids) -> {
+			ids.remove(id);
+			return ids.isEmpty() ? null : ids;
+		});
+	}
+
+	private static boolean containedInAll(List<Set<Long>> candidates, Long id) {
+		for (int i = 1; i < candidates.size(); i++) {
+			if (!candidates.get(i).contains(id)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 한 글자 검색어는 1-gram, 그 외에는 선택도가 높은 2-gram만 사용한다
+	private static Set<String> queryGrams(String query) {
+		if (query.length() == 1) {
+			return Set.of(query);
+		}
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i + 2 <= query.length(); i++) {
+			grams.add(query.substring(i, i + 2));
+		}
+		return grams;
+	}
+
+	private static void addGrams(String text, Set<String> grams) {
+		for (int i = 0; i < text.length(); i++) {
+			grams.add(text.substring(i, i + 1));
+			if (i + 2 <= text.length()) {
+				grams.add(text.substring(i, i + 2));
+			}
+		}
+	}
+
+	private record IndexedArticle(String title, String authorName) {
+
+		private Set<String> grams() {
+			Set<String> grams = new LinkedHashSet<>();
+			addGrams(title, grams);
+			addGrams(authorName, grams);
+			return grams;
+		}
+
+		private Set<String> terms() {
+			return ArticleSearchIndex.terms(title);
+		}
+
+		private int score(String query) {
+			if (title.startsWith(query)) {
+				return TITLE_PREFIX_SCORE;
+			}
+			if (title.contains(query)) {
+				return TITLE_SCORE;
+			}
+			return authorName.contains(query) ? AUTHOR_SCORE : 0;
+		}
+	}
+
+	private record ScoredId(Long id, int score) {
+	}
+}
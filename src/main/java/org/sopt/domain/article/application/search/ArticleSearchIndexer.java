@@ -0,0 +1,91 @@
+package org.sopt.domain.article.application.search;
+
+import java.util.List;
+
+import org.sopt.domain.article.application.event.ArticleCreatedEvent;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
+import org.sopt.domain.article.domain.repository.ArticleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 검색/필터 색인을 DB와 맞춘다.
+ *
+ * <p>기동 시 전체 게시글을 id 순으로 나누어 적재하고, 이후에는 게시글 작성 커밋 직후 이벤트로 반영합니다.
+ * 다른 인스턴스에서 작성된 게시글은 주기적인 따라잡기 조회로 반영되며, 색인 추가는 멱등이므로
+ * 이벤트와 따라잡기가 겹쳐도 문제가 없습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleSearchIndexer {
+
+	private static final int CHUNK_SIZE = 1000;
+	// 늦게 커밋된 작은 id를 놓치지 않도록 마지막 색인 id보다 조금 앞에서부터 다시 읽는다
+	private static final long CATCH_UP_OVERLAP = 100;
+
+	private final ArticleRepository articleRepository;
+	private final ArticleSearchIndex articleSearchIndex;
+	private final ArticleFacetIndex articleFacetIndex;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void buildIndex() {
+		long startedAt = System.currentTimeMillis();
+		try {
+			int indexed = indexAfter(0);
+			articleSearchIndex.markReady();
+			articleFacetIndex.markReady();
+			log.info("게시글 검색 색인 구축 완료: {}건, n-gram {}개, {}ms", indexed,
+				articleSearchIndex.getGramCount(), System.currentTimeMillis() - startedAt);
+		} catch (RuntimeException e) {
+			// 색인이 준비되기 전까지 검색은 DB 조회로 동작하며, 따라잡기 주기에 다시 시도한다
+			log.error("게시글 검색 색인 구축 실패", e);
+		}
+	}
+
+	@TransactionalEventListener
+	public void onArticleCreated(ArticleCreatedEvent event) {
+		index(event.article());
+	}
+
+	@Scheduled(fixedDelay = 30000, initialDelay = 30000)
+	public synchronized void catchUp() {
+		if (!articleSearchIndex.isReady()) {
+			buildIndex();
+			return;
+		}
+		int indexed = indexAfter(Math.max(0, articleSearchIndex.getMaxIndexedId() - CATCH_UP_OVERLAP));
+		if (indexed > 0) {
+			log.debug("게시글 검색 색인 따라잡기: {}건 반영", indexed);
+		}
+	}
+
+	private int indexAfter(long afterId) {
+		int indexed = 0;
+		long lastId = afterId;
+		while (true) {
+			List<ArticleIndexRow> rows = articleRepository.findIndexRowsAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+			for (ArticleIndexRow row : rows) {
+				if (index(row)) {
+					indexed++;
+				}
+			}
+			if (rows.size() < CHUNK_SIZE) {
+				return indexed;
+			}
+			lastId = rows.get(rows.size() - 1).id();
+		}
+	}
+
+	private boolean index(ArticleIndexRow row) {
+		articleFacetIndex.add(row);
+		return articleSearchIndex.add(row);
+	}
+}
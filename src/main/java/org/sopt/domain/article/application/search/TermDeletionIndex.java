@@ -0,0 +1,143 @@
+package org.sopt.domain.article.application.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * 대칭 삭제(SymSpell) 방식의 오타 허용 용어 사전. 각 용어에 그 용어를 가진 게시글 ID를 함께 저장한다.
+ *
+ * <p>편집 거리가 k 이하인 두 단어는 각각 k글자 이하를 지워 같은 문자열을 만들 수 있다. 그래서 용어마다
+ * 글자를 지운 변형을 미리 색인해 두고, 질의어의 변형으로 후보를 찾은 뒤 실제 편집 거리로 확인한다.
+ * 조회 비용은 질의어 길이로만 정해지고 사전 크기와 무관하므로 용어가 100만 개여도 해시 조회 수십 번이면 끝난다.</p>
+ *
+ * <p>대신 용어마다 최대 {@code 1 + L + L(L-1)/2}개(L은 용어 길이)의 변형을 메모리에 둔다.
+ * 용어마다 지우는 글자 수를 그 용어 길이의 허용 거리로 제한해 짧은 단어의 변형 수를 줄이며,
+ * 이를 위해 허용 거리는 길이가 1 늘 때 최대 1만 늘어야 한다. 마지막 게시글이 빠진 용어는 변형과 함께 제거한다.</p>
+ */
+final class TermDeletionIndex {
+
+	private final ToIntFunction<String> maxEdits;
+	private final ConcurrentHashMap<String, Set<Long>> terms = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Set<String>> deletes = new ConcurrentHashMap<>();
+
+	TermDeletionIndex(ToIntFunction<String> maxEdits) {
+		this.maxEdits = maxEdits;
+	}
+
+	void add(String term, Long id) {
+		terms.compute(term, (key, ids) -> {
+			if (ids == null) {
+				ids = ConcurrentHashMap.newKeySet();
+				variants(term, maxEdits.applyAsInt(term)).forEach(variant -> deletes.compute(variant,
+					(deleted, owners) -> {
+						Set<String> result = owners == null ? ConcurrentHashMap.newKeySet() : owners;
+						result.add(term);
+						return result;
+					}));
+			}
+			ids.add(id);
+			return ids;
+		});
+	}
+
+	void remove(String term, Long id) {
+		terms.computeIfPresent(term, (key, ids) -> {
+			ids.remove(id);
+			if (!ids.isEmpty()) {
+				return ids;
+			}
+			variants(term, maxEdits.applyAsInt(term)).forEach(variant -> deletes.computeIfPresent(variant,
+				(deleted, owners) -> {
+					owners.remove(term);
+					return owners.isEmpty() ? null : owners;
+				}));
+			return null;
+		});
+	}
+
+	/**
+	 * 질의어 길이의 허용 거리 이내인 용어를 반환한다.
+	 */
+	List<Match> search(String query) {
+		int maxDistance = maxEdits.applyAsInt(query);
+		Set<String> candidates = new HashSet<>();
+		for (String variant : variants(query, maxDistance)) {
+			Set<String> owners = deletes.get(variant);
+			if (owners != null) {
+				candidates.addAll(owners);
+			}
+		}
+
+		List<Match> matches = new ArrayList<>();
+		for (String candidate : candidates) {
+			if (Math.abs(candidate.length() - query.length()) > maxDistance) {
+				continue;
+			}
+			int distance = distance(candidate, query);
+			Set<Long> ids = terms.get(candidate);
+			if (distance <= maxDistance && ids != null) {
+				matches.add(new Match(candidate, distance, ids));
+			}
+		}
+		return matches;
+	}
+
+	int size() {
+		return terms.size();
+	}
+
+	int variantCount() {
+		return deletes.size();
+	}
+
+	// 원문을 포함해 글자를 maxDeletes개 이하로 지운 모든 문자열
+	static Set<String> variants(String term, int maxDeletes) {
+		Set<String> variants = new HashSet<>();
+		variants.add(term);
+		List<String> frontier = List.of(term);
+		for (int depth = 0; depth < maxDeletes; depth++) {
+			List<String> next = new ArrayList<>();
+			for (String word : frontier) {
+				for (int i = 0; i < word.length(); i++) {
+					String deleted = word.substring(0, i) + word.substring(i + 1);
+					if (variants.add(deleted)) {
+						next.add(deleted);
+					}
+				}
+			}
+			frontier = next;
+		}
+		return variants;
+	}
+
+	static int distance(String a, String b) {
+		if (a.length() < b.length()) {
+			return distance(b, a);
+		}
+		// 짧은 쪽 길이의 두 행만 유지한다
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i;
+			char ca = a.charAt(i - 1);
+			for (int j = 1; j <= b.length(); j++) {
+				int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+				current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+			}
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return previous[b.length()];
+	}
+
+	record Match(String term, int distance, Set<Long> ids) {
+	}
+}
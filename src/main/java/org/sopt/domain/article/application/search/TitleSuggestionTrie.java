@@ -0,0 +1,170 @@
+package org.sopt.domain.article.application.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목 자동완성용 압축(radix) 트라이.
+ *
+ * <p>간선에 한 글자가 아닌 공통 접두 문자열을 저장해 노드 수를 줄이고, 각 노드는 자신의 하위 트리에서
+ * 상위 K개(최신순) 제안을 미리 계산해 둡니다. 따라서 조회는 접두어 길이만큼 내려가는 것으로 끝납니다.</p>
+ */
+final class TitleSuggestionTrie {
+
+	private static final Comparator<Suggestion> NEWEST_FIRST = Comparator.comparing(Suggestion::id).reversed();
+
+	private final int topK;
+	private final Node root = new Node("");
+	// 쓰기는 게시글 작성 시에만 일어나므로 단순한 읽기/쓰기 잠금으로 충분하다
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	TitleSuggestionTrie(int topK) {
+		this.topK = topK;
+	}
+
+	void add(String key, Suggestion suggestion) {
+		lock.writeLock().lock();
+		try {
+			List<Node> path = new ArrayList<>();
+			Node node = root;
+			String rest = key;
+			path.add(node);
+			while (!rest.isEmpty()) {
+				Node child = node.children.get(rest.charAt(0));
+				if (child == null) {
+					child = new Node(rest);
+					node.children.put(rest.charAt(0), child);
+				} else {
+					int common = commonPrefixLength(child.label, rest);
+					if (common < child.label.length()) {
+						child = split(node, child, common);
+					}
+				}
+				path.add(child);
+				rest = rest.substring(child.label.length());
+				node = child;
+			}
+			if (node.entries.contains(suggestion)) {
+				return;
+			}
+			node.entries.add(suggestion);
+			path.forEach(each -> each.top = merge(each.top, List.of(suggestion)));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void remove(String key, Long id) {
+		lock.writeLock().lock();
+		try {
+			List<Node> path = findPath(key);
+			if (path.isEmpty() || !path.get(path.size() - 1).entries.removeIf(each -> each.id().equals(id))) {
+				return;
+			}
+			// 아래에서부터 상위 K개를 다시 계산한다
+			for (int i = path.size() - 1; i >= 0; i--) {
+				Node node = path.get(i);
+				List<Suggestion> top = merge(List.of(), node.entries);
+				for (Node child : node.children.values()) {
+					top = merge(top, child.top);
+				}
+				node.top = top;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	List<Suggestion> suggest(String prefix, int limit) {
+		if (prefix.isEmpty()) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			Node node = root;
+			String rest = prefix;
+			while (!rest.isEmpty()) {
+				Node child = node.children.get(rest.charAt(0));
+				if (child == null) {
+					return List.of();
+				}
+				int common = commonPrefixLength(child.label, rest);
+				if (common == rest.length()) {
+					// 접두어가 간선 중간에서 끝나도 그 아래 하위 트리가 후보다
+					node = child;
+					break;
+				}
+				if (common < child.label.length()) {
+					return List.of();
+				}
+				rest = rest.substring(common);
+				node = child;
+			}
+			return node.top.subList(0, Math.min(limit, node.top.size()));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private List<Node> findPath(String key) {
+		List<Node> path = new ArrayList<>();
+		Node node = root;
+		String rest = key;
+		path.add(node);
+		while (!rest.isEmpty()) {
+			Node child = node.children.get(rest.charAt(0));
+			if (child == null || !rest.startsWith(child.label)) {
+				return List.of();
+			}
+			path.add(child);
+			rest = rest.substring(child.label.length());
+			node = child;
+		}
+		return path;
+	}
+
+	private Node split(Node parent, Node child, int at) {
+		Node middle = new Node(child.label.substring(0, at));
+		child.label = child.label.substring(at);
+		middle.children.put(child.label.charAt(0), child);
+		middle.top = child.top;
+		parent.children.put(middle.label.charAt(0), middle);
+		return middle;
+	}
+
+	private List<Suggestion> merge(List<Suggestion> current, List<Suggestion> additions) {
+		List<Suggestion> merged = new ArrayList<>(current.size() + additions.size());
+		merged.addAll(current);
+		merged.addAll(additions);
+		merged.sort(NEWEST_FIRST);
+		return List.copyOf(merged.subList(0, Math.min(topK, merged.size())));
+	}
+
+	private static int commonPrefixLength(String a, String b) {
+		int max = Math.min(a.length(), b.length());
+		int i = 0;
+		while (i < max && a.charAt(i) == b.charAt(i)) {
+			i++;
+		}
+		return i;
+	}
+
+	record Suggestion(Long id, String title) {
+	}
+
+	private static final class Node {
+
+		private String label;
+		private final Map<Character, Node> children = new HashMap<>();
+		private final List<Suggestion> entries = new ArrayList<>(1);
+		private List<Suggestion> top = List.of();
+
+		private Node(String label) {
+			this.label = label;
+		}
+	}
+}
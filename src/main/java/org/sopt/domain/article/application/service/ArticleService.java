@@ -1,22 +1,43 @@
 package org.sopt.domain.article.application.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.sopt.domain.article.application.cache.ArticleFeedCache;
 import org.sopt.domain.article.application.dto.ArticleCreateRequest;
+import org.sopt.domain.article.application.dto.ArticleCursor;
 import org.sopt.domain.article.application.dto.ArticleResponse;
+import org.sopt.domain.article.application.dto.ArticleScrollResponse;
+import org.sopt.domain.article.application.dto.ArticleSearchCondition;
+import org.sopt.domain.article.application.dto.ArticleSuggestResponse;
+import org.sopt.domain.article.application.dto.ArticleSummaryResponse;
+import org.sopt.domain.article.application.dto.FacetedArticlePage;
+import org.sopt.domain.article.application.event.ArticleCreatedEvent;
+import org.sopt.domain.article.application.search.ArticleFacetIndex;
+import org.sopt.domain.article.application.search.ArticleSearchIndex;
 import org.sopt.domain.article.domain.entity.Article;
 import org.sopt.domain.article.domain.repository.ArticleRepository;
+import org.sopt.domain.article.domain.repository.ArticleSummary;
 import org.sopt.domain.article.exception.ArticleException;
 import org.sopt.domain.comment.domain.entity.Comment;
 import org.sopt.domain.comment.domain.repository.CommentRepository;
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.domain.member.domain.repository.MemberRepository;
 import org.sopt.domain.member.exception.MemberException;
+import org.sopt.global.response.ApproximatePage;
 import org.sopt.global.response.error.ErrorCode;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
@@ -26,9 +47,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ArticleService {
 
+	private static final int MAX_SCROLL_SIZE = 100;
+
 	private final ArticleRepository articleRepository;
 	private final MemberRepository memberRepository;
 	private final CommentRepository commentRepository;
+	private final ArticleSearchIndex articleSearchIndex;
+	private final ArticleFacetIndex articleFacetIndex;
+	private final ArticleFeedCache articleFeedCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public ArticleResponse create(Long authorId, ArticleCreateRequest request) {
@@ -48,6 +75,8 @@ public class ArticleService {
 		);
 
 		articleRepository.save(article);
+		// 검색 색인과 피드 캐시는 커밋 이후에 반영된다
+		eventPublisher.publishEvent(ArticleCreatedEvent.from(article));
 
 		return ArticleResponse.fromEntity(article);
 	}
@@ -63,20 +92,131 @@ public class ArticleService {
 		return ArticleResponse.fromEntityWithComments(article, comments);
 	}
 
-	private Page<ArticleResponse> findAllArticles(Pageable pageable) {
-		return articleRepository.findAllWithAuthor(pageable)
-			.map(ArticleResponse::fromEntity);
+	private Slice<ArticleSummaryResponse> findAllArticles(Pageable pageable) {
+		if (articleFeedCache.covers(pageable)) {
+			return articleFeedCache.getPage(pageable);
+		}
+		// 정렬을 지정하지 않으면 캐시된 앞쪽 페이지와 같은 최신순으로 이어진다
+		Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+			pageable.getSortOr(ArticleFeedCache.NEWEST_FIRST));
+		return articleRepository.findAllSummaries(sorted)
+			.map(ArticleSummaryResponse::from);
+	}
+
+	private Slice<ArticleSummaryResponse> searchArticles(String keyword, Pageable pageable, boolean withTotal,
+		boolean fuzzy) {
+		if (!articleSearchIndex.isReady()) {
+			Slice<ArticleSummaryResponse> result = articleRepository
+				.findSummariesByTitleOrAuthorNameContaining(keyword, pageable)
+				.map(ArticleSummaryResponse::from);
+			return withTotal
+				? ApproximatePage.of(result, () -> articleRepository.countByTitleOrAuthorNameContaining(keyword))
+				: result;
+		}
+
+		// 색인이 관련도 순 id 목록과 정확한 건수를 주므로 DB는 현재 페이지의 id만 조회한다
+		List<Long> ids = searchIds(keyword, fuzzy);
+		int from = (int)Math.min(pageable.getOffset(), ids.size());
+		int to = Math.min(from + pageable.getPageSize(), ids.size());
+		List<ArticleSummaryResponse> content = findAllByIdsInOrder(ids.subList(from, to));
+
+		return withTotal
+			? new PageImpl<>(content, pageable, ids.size())
+			: new SliceImpl<>(content, pageable, to < ids.size());
+	}
+
+	private List<Long> searchIds(String keyword, boolean fuzzy) {
+		return fuzzy ? articleSearchIndex.searchFuzzy(keyword) : articleSearchIndex.search(keyword);
+	}
+
+	/**
+	 * 태그/기간 필터는 비트맵 색인으로 처리하며, 태그별 건수를 같은 계산에서 함께 구한다.
+	 * 필터는 DB 대체 경로가 없으므로 색인이 준비되기 전에는 잠시 후 재시도를 안내한다.
+	 */
+	private FacetedArticlePage filterArticles(ArticleSearchCondition condition, Pageable pageable) {
+		if (condition.from() != null && condition.to() != null && condition.from().isAfter(condition.to())) {
+			throw new ArticleException(ErrorCode.INVALID_INPUT, "from");
+		}
+		if (!articleFacetIndex.isReady() || (condition.hasKeyword() && !articleSearchIndex.isReady())) {
+			throw new ArticleException(ErrorCode.ARTICLE_INDEX_NOT_READY);
+		}
+
+		List<Long> ranked = condition.hasKeyword() ? searchIds(condition.keyword(), condition.fuzzy()) : null;
+		ArticleFacetIndex.Selection selection = articleFacetIndex.select(condition.tag(), condition.from(),
+			condition.to(), ranked);
+		List<Long> pageIds = ranked == null
+			? selection.newestIds(pageable.getOffset(), pageable.getPageSize())
+			: ranked.stream().filter(selection::contains).skip(pageable.getOffset()).limit(pageable.getPageSize())
+			.toList();
+
+		return new FacetedArticlePage(findAllByIdsInOrder(pageIds), pageable, selection.total(),
+			selection.tagCounts());
+	}
+
+	private List<ArticleSummaryResponse> findAllByIdsInOrder(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, ArticleSummary> articles = articleRepository.findSummariesByIdIn(ids).stream()
+			.collect(Collectors.toMap(ArticleSummary::id, Function.identity()));
+		return ids.stream()
+			.map(articles::get)
+			.filter(Objects::nonNull)
+			.map(ArticleSummaryResponse::from)
+			.toList();
+	}
+
+	/**
+	 * 커서 기반 목록 조회. 한 건을 더 읽어 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 없다.
+	 */
+	public ArticleScrollResponse scrollArticles(String cursor, int requestedSize) {
+		int size = Math.min(Math.max(requestedSize, 1), MAX_SCROLL_SIZE);
+		Pageable limit = PageRequest.of(0, size + 1);
+		List<ArticleSummary> articles = (cursor == null || cursor.isBlank())
+			? articleRepository.findFirstSummaries(limit)
+			: findSliceAfter(ArticleCursor.decode(cursor), limit);
+
+		boolean hasNext = articles.size() > size;
+		List<ArticleSummary> page = hasNext ? articles.subList(0, size) : articles;
+		String nextCursor = hasNext ? ArticleCursor.from(page.get(page.size() - 1)).encode() : null;
+
+		return ArticleScrollResponse.of(page.stream().map(ArticleSummaryResponse::from).toList(), nextCursor);
+	}
+
+	private List<ArticleSummary> findSliceAfter(ArticleCursor cursor, Pageable limit) {
+		return articleRepository.findSummariesBefore(cursor.createdAt(), cursor.id(), limit);
 	}
 
-	private Page<ArticleResponse> searchArticles(String keyword, Pageable pageable) {
-		return articleRepository.findByTitleOrAuthorNameContaining(keyword, pageable)
-			.map(ArticleResponse::fromEntity);
+	/**
+	 * 제목 자동완성. 인메모리 트라이만 조회하므로 DB 커넥션을 잡지 않으며,
+	 * 색인이 준비되기 전에는 빈 목록을 반환한다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<ArticleSuggestResponse> suggestTitles(String prefix, int size) {
+		if (!articleSearchIndex.isReady()) {
+			return List.of();
+		}
+		return articleSearchIndex.suggest(prefix, Math.max(size, 1));
 	}
 
-	public Page<ArticleResponse> getArticles(String keyword, Pageable pageable) {
-		if (keyword != null && !keyword.trim().isEmpty()) {
-			return searchArticles(keyword, pageable);
+	/**
+	 * 기본은 COUNT 없는 Slice 응답이며, withTotal이면 전체 건수를 붙여 Page로 응답한다.
+	 * 검색어가 있으면 인메모리 색인의 관련도 순으로 정렬되며, 정렬 파라미터는 적용되지 않는다.
+	 * fuzzy면 제목 단어의 오타(편집 거리 1~2)까지 허용한다. 색인 준비 전에는 포함 검색만 가능하다.
+	 * 태그나 기간 조건이 있으면 최신순(검색어가 있으면 관련도 순) 필터 결과와 태그별 건수를 응답한다.
+	 * 목록 항목은 본문 앞부분만 담으며, 본문 전체는 단건 조회에서만 제공한다.
+	 * 검색어·필터 없는 기본 크기의 앞쪽 페이지는 피드 캐시에서 응답하므로 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Slice<ArticleSummaryResponse> getArticles(ArticleSearchCondition condition, Pageable pageable,
+		boolean withTotal) {
+		if (condition.hasFilter()) {
+			return filterArticles(condition, pageable);
+		}
+		if (condition.hasKeyword()) {
+			return searchArticles(condition.keyword(), pageable, withTotal, condition.fuzzy());
 		}
-		return findAllArticles(pageable);
+		Slice<ArticleSummaryResponse> result = findAllArticles(pageable);
+		return withTotal ? ApproximatePage.of(result, articleRepository::countAll) : result;
 	}
 }
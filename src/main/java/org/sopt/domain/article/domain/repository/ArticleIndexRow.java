@@ -0,0 +1,22 @@
+package org.sopt.domain.article.domain.repository;
+
+import java.time.LocalDateTime;
+
+import org.sopt.domain.article.domain.entity.Article;
+import org.sopt.domain.article.domain.entity.Tag;
+
+/**
+ * 인메모리 색인 적재용 게시글 행. 본문(content)은 포함하지 않는다.
+ */
+public record ArticleIndexRow(
+	Long id,
+	String title,
+	String authorName,
+	Tag tag,
+	LocalDateTime createdAt
+) {
+	public static ArticleIndexRow from(Article article) {
+		return new ArticleIndexRow(article.getId(), article.getTitle(), article.getAuthor().getName(),
+			article.getTag(), article.getCreatedAt());
+	}
+}
@@ -1,25 +1,65 @@
 package org.sopt.domain.article.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.sopt.domain.article.domain.entity.Article;
-import org.springframework.data.domain.Page;
+import org.sopt.global.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ArticleRepository extends JpaRepository<Article, Long> {
+
+	// 목록 조회는 TEXT 컬럼인 content 전체를 읽지 않고 앞부분(EXCERPT_LENGTH + 1자)만 DB에서 잘라 온다
+	String SUMMARY_SELECT = "SELECT new org.sopt.domain.article.domain.repository.ArticleSummary("
+		+ "a.id, m.id, m.name, a.title, SUBSTRING(a.content, 1, " + (ArticleSummary.EXCERPT_LENGTH + 1) + "), "
+		+ "a.tag, a.createdAt, a.updatedAt) FROM Article a JOIN a.author m ";
+
 	boolean existsByTitle(String title);
 
 	@Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.id = :id")
 	Optional<Article> findByIdWithAuthor(@Param("id") Long id);
 
-	@Query(value = "SELECT a FROM Article a JOIN FETCH a.author",
-		countQuery = "SELECT COUNT(a) FROM Article a")
-	Page<Article> findAllWithAuthor(Pageable pageable);
+	// Slice 반환: size + 1건을 조회해 다음 페이지 여부만 판단하고 COUNT 쿼리는 실행하지 않는다
+	@Query(SUMMARY_SELECT)
+	Slice<ArticleSummary> findAllSummaries(Pageable pageable);
+
+	// 전체 건수가 필요한 경우에만 사용하며, listingCounts 캐시 TTL만큼 늦을 수 있다
+	@Cacheable(value = CacheConfig.LISTING_COUNTS, key = "'articles'")
+	@Query("SELECT COUNT(a) FROM Article a")
+	long countAll();
+
+	// 커서 기반 목록: (createdAt, id) 내림차순, idx_article_created_at(+PK) 범위 스캔으로 OFFSET/COUNT 없이 조회
+	@Query(SUMMARY_SELECT + "ORDER BY a.createdAt DESC, a.id DESC")
+	List<ArticleSummary> findFirstSummaries(Pageable pageable);
+
+	@Query(SUMMARY_SELECT
+		+ "WHERE a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id) "
+		+ "ORDER BY a.createdAt DESC, a.id DESC")
+	List<ArticleSummary> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+		Pageable pageable);
+
+	// 검색 색인 결과(id 목록)를 한 번에 채운다. 순서는 호출 측에서 맞춘다
+	@Query(SUMMARY_SELECT + "WHERE a.id IN :ids")
+	List<ArticleSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+	// 검색 색인 적재용: 본문 없이 id 순으로 필요한 컬럼만 조회
+	@Query("SELECT new org.sopt.domain.article.domain.repository.ArticleIndexRow(a.id, a.title, m.name, a.tag, a.createdAt) "
+		+ "FROM Article a JOIN a.author m WHERE a.id > :afterId ORDER BY a.id")
+	List<ArticleIndexRow> findIndexRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	// 검색 색인이 준비되기 전에만 사용하는 DB 검색
+	@Query(SUMMARY_SELECT + "WHERE a.title LIKE %:keyword% OR m.name LIKE %:keyword%")
+	Slice<ArticleSummary> findSummariesByTitleOrAuthorNameContaining(@Param("keyword") String keyword,
+		Pageable pageable);
 
-	@Query(value = "SELECT a FROM Article a JOIN FETCH a.author WHERE a.title LIKE %:keyword% OR a.author.name LIKE %:keyword%",
-		countQuery = "SELECT COUNT(a) FROM Article a WHERE a.title LIKE %:keyword% OR a.author.name LIKE %:keyword%")
-	Page<Article> findByTitleOrAuthorNameContaining(@Param("keyword") String keyword, Pageable pageable);
+	@Cacheable(value = CacheConfig.LISTING_COUNTS, key = "'articles:' + #p0")
+	@Query("SELECT COUNT(a) FROM Article a WHERE a.title LIKE %:keyword% OR a.author.name LIKE %:keyword%")
+	long countByTitleOrAuthorNameContaining(@Param("keyword") String keyword);
 }
@@ -0,0 +1,30 @@
+package org.sopt.domain.article.domain.repository;
+
+import java.time.LocalDateTime;
+
+import org.sopt.domain.article.domain.entity.Article;
+import org.sopt.domain.article.domain.entity.Tag;
+
+/**
+ * 게시글 목록용 행. 본문(content) 전체 대신 DB에서 잘라낸 앞부분만 담는다.
+ *
+ * <p>contentHead는 {@link #EXCERPT_LENGTH}보다 한 글자 더 조회하므로, 응답 시 잘렸는지 판단할 수 있다.</p>
+ */
+public record ArticleSummary(
+	Long id,
+	Long authorId,
+	String authorName,
+	String title,
+	String contentHead,
+	Tag tag,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+	public static final int EXCERPT_LENGTH = 100;
+
+	public static ArticleSummary from(Article article) {
+		return new ArticleSummary(article.getId(), article.getAuthor().getId(), article.getAuthor().getName(),
+			article.getTitle(), article.getContent(), article.getTag(), article.getCreatedAt(),
+			article.getUpdatedAt());
+	}
+}
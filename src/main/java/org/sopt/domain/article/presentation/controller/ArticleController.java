@@ -1,17 +1,26 @@
 package org.sopt.domain.article.presentation.controller;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.sopt.domain.article.application.dto.ArticleCreateRequest;
 import org.sopt.domain.article.application.dto.ArticleResponse;
+import org.sopt.domain.article.application.dto.ArticleScrollResponse;
+import org.sopt.domain.article.application.dto.ArticleSearchCondition;
+import org.sopt.domain.article.application.dto.ArticleSuggestResponse;
+import org.sopt.domain.article.application.dto.ArticleSummaryResponse;
 import org.sopt.domain.article.application.service.ArticleService;
+import org.sopt.domain.article.domain.entity.Tag;
 import org.sopt.global.annotation.ApiExceptions;
 import org.sopt.global.annotation.AutoApiResponse;
 import org.sopt.global.annotation.SuccessCodeAnnotation;
 import org.sopt.global.auth.security.CustomUserDetails;
 import org.sopt.global.response.error.ErrorCode;
 import org.sopt.global.response.success.SuccessCode;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -48,6 +57,31 @@ public class ArticleController {
 		return articleService.create(userDetails.getMemberId(), request);
 	}
 
+	@GetMapping("/scroll")
+	@SuccessCodeAnnotation(SuccessCode.ARTICLE_VIEW)
+	@Operation(summary = "게시글 목록 (커서)", description = "최신순 게시글 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+	@ApiExceptions({ErrorCode.INVALID_INPUT})
+	public ArticleScrollResponse scrollArticles(
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return articleService.scrollArticles(cursor, size);
+	}
+
+	@GetMapping("/suggest")
+	@SuccessCodeAnnotation(SuccessCode.ARTICLE_VIEW)
+	@Operation(summary = "게시글 제목 자동완성", description = "입력한 접두어로 시작하는 게시글 제목을 최신순으로 조회합니다.")
+	public List<ArticleSuggestResponse> suggestTitles(
+		@Parameter(description = "제목 접두어 (대소문자 무시)", required = true, example = "spr")
+		@RequestParam String prefix,
+		@Parameter(description = "최대 개수 (최대 10)", example = "10")
+		@RequestParam(defaultValue = "10") int size
+	) {
+		return articleService.suggestTitles(prefix, size);
+	}
+
 	@GetMapping("/{id}")
 	@SuccessCodeAnnotation(SuccessCode.ARTICLE_VIEW)
 	@Operation(summary = "게시글 조회", description = "ID로 특정 게시글의 정보를 조회합니다.")
@@ -61,12 +95,25 @@ public class ArticleController {
 
 	@GetMapping
 	@SuccessCodeAnnotation(SuccessCode.ARTICLE_VIEW)
-	@Operation(summary = "게시글 조회 및 검색", description = "등록된 게시글을 조회합니다. keyword를 입력하면 제목 또는 작성자 이름으로 검색합니다.")
-	public Page<ArticleResponse> getAllArticles(
+	@Operation(summary = "게시글 조회 및 검색", description = "등록된 게시글을 조회합니다. keyword를 입력하면 제목 또는 작성자 이름으로 검색하고, fuzzy=true면 제목의 오타도 허용합니다. "
+		+ "tag, from, to를 지정하면 필터 결과와 함께 태그별 게시글 수(tagCounts)를 응답합니다. 목록 항목에는 본문 앞부분(excerpt)만 포함됩니다.")
+	@ApiExceptions({ErrorCode.INVALID_INPUT, ErrorCode.ARTICLE_INDEX_NOT_READY})
+	public Slice<ArticleSummaryResponse> getAllArticles(
 		@Parameter(description = "검색 키워드 (제목 또는 작성자 이름)", example = "Spring")
 		@RequestParam(required = false) String keyword,
+		@Parameter(description = "제목 오타 허용 검색 여부 (예: Sprnig → Spring)", example = "false")
+		@RequestParam(defaultValue = "false") boolean fuzzy,
+		@Parameter(description = "태그 필터", example = "SPRING")
+		@RequestParam(required = false) Tag tag,
+		@Parameter(description = "작성일 시작 (포함)", example = "2024-01-01")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@Parameter(description = "작성일 끝 (포함)", example = "2024-12-31")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@Parameter(description = "전체 건수 포함 여부 (최대 30초 지연된 값)", example = "false")
+		@RequestParam(defaultValue = "false") boolean withTotal,
 		@PageableDefault(size = 20) Pageable pageable
 	) {
-		return articleService.getArticles(keyword, pageable);
+		return articleService.getArticles(new ArticleSearchCondition(keyword, fuzzy, tag, from, to), pageable,
+			withTotal);
 	}
 }
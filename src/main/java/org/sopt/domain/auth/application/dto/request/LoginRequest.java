@@ -2,6 +2,7 @@ package org.sopt.domain.auth.application.dto.request;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 public record LoginRequest(
 	@NotBlank(message = "이메일은 필수입니다")
@@ -9,6 +10,10 @@ public record LoginRequest(
 	String email,
 
 	@NotBlank(message = "비밀번호는 필수입니다")
-	String password
+	String password,
+
+	// 선택 값, 없으면 기본 기기로 취급
+	@Size(max = 64, message = "기기 ID는 64자 이내여야 합니다")
+	String deviceId
 ) {
 }
@@ -0,0 +1,21 @@
+package org.sopt.domain.auth.application.dto.response;
+
+import java.time.LocalDateTime;
+
+import org.sopt.domain.auth.domain.entity.RefreshToken;
+
+public record SessionResponse(
+	String deviceId,
+	LocalDateTime issuedAt,
+	LocalDateTime lastRefreshedAt,
+	LocalDateTime expiresAt
+) {
+	public static SessionResponse fromEntity(RefreshToken refreshToken) {
+		return new SessionResponse(
+			refreshToken.getDeviceId(),
+			refreshToken.getCreatedAt(),
+			refreshToken.getLastIssuedAt() != null ? refreshToken.getLastIssuedAt() : refreshToken.getCreatedAt(),
+			refreshToken.getExpiryDate()
+		);
+	}
+}
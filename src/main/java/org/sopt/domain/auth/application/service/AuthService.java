@@ -1,26 +1,44 @@
 package org.sopt.domain.auth.application.service;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 import org.sopt.domain.auth.application.dto.TokenPair;
 import org.sopt.domain.auth.application.dto.request.LoginRequest;
 import org.sopt.domain.auth.application.dto.request.TokenRefreshRequest;
 import org.sopt.domain.auth.application.dto.response.LoginResponse;
+import org.sopt.domain.auth.application.dto.response.SessionResponse;
 import org.sopt.domain.auth.application.dto.response.TokenRefreshResponse;
 import org.sopt.domain.auth.domain.entity.RefreshToken;
+import org.sopt.domain.auth.domain.entity.RotatedRefreshToken;
 import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
+import org.sopt.domain.auth.domain.repository.RotatedRefreshTokenRepository;
 import org.sopt.domain.auth.exception.AuthException;
+import org.sopt.domain.member.application.event.MemberPasswordChangedEvent;
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.domain.member.domain.repository.MemberRepository;
+import org.sopt.global.auth.jwt.AccessTokenRevocationList;
+import org.sopt.global.auth.jwt.JwtClaims;
 import org.sopt.global.auth.jwt.JwtProperties;
 import org.sopt.global.auth.jwt.JwtProvider;
+import org.sopt.global.auth.jwt.TokenDigest;
+import org.sopt.global.auth.ratelimit.LoginRateLimiter;
+import org.sopt.global.auth.security.PasswordHasher;
 import org.sopt.global.response.error.ErrorCode;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -28,88 +46,200 @@ public class AuthService {
 
 	private final MemberRepository memberRepository;
 	private final RefreshTokenRepository refreshTokenRepository;
+	private final RotatedRefreshTokenRepository rotatedRefreshTokenRepository;
 	private final JwtProvider jwtProvider;
 	private final JwtProperties jwtProperties;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
+	private final AccessTokenRevocationList accessTokenRevocationList;
+	private final LoginRateLimiter loginRateLimiter;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * bcrypt 검증 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행하고,
+	 * 회원 조회와 세션 저장은 각각 리포지토리의 짧은 트랜잭션으로 처리한다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public LoginResponse login(LoginRequest request, String clientIp) {
+		// 제한을 넘은 시도는 회원 조회와 bcrypt 검증 전에 거절한다
+		loginRateLimiter.acquire(request.email(), clientIp);
 
-	@Transactional
-	public LoginResponse login(LoginRequest request) {
 		Member member = memberRepository.findByEmail(request.email())
 			.orElseThrow(() -> new AuthException(ErrorCode.LOGIN_FAIL));
 
-		if (!passwordEncoder.matches(request.password(), member.getPassword())) {
+		if (!passwordHasher.matches(request.password(), member.getPassword())) {
 			throw new AuthException(ErrorCode.LOGIN_FAIL);
 		}
+		upgradePasswordHashIfNeeded(member, request.password());
 
-		TokenPair tokens = generateAndSaveTokens(member.getId());
+		TokenPair tokens = generateAndSaveTokens(member.getId(), member.getEmail(), resolveDeviceId(request.deviceId()));
 
 		return LoginResponse.of(tokens.accessToken(), tokens.refreshToken(), jwtProperties.getExpiresInSeconds());
 	}
 
-	@Transactional
+	/**
+	 * 세션 행의 해시 교체(compare-and-set)와 교체된 해시 기록, 두 문장으로 토큰을 갱신한다.
+	 * 교체된 토큰이 다시 제시되면 탈취로 보고 해당 기기 세션을 폐기하며,
+	 * 폐기는 예외와 함께 커밋되어야 하므로 AuthException에서는 롤백하지 않는다.
+	 */
+	@Transactional(noRollbackFor = AuthException.class)
 	public TokenRefreshResponse renewalRefreshToken(TokenRefreshRequest request) {
 		String requestToken = request.refreshToken();
 
-		validateRefreshToken(requestToken);
-
-		RefreshToken refreshToken = refreshTokenRepository.findByToken(requestToken)
-			.orElseThrow(() -> new AuthException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+		// 서명/만료 검증은 한 번만 수행하고, 새 토큰 발급에 필요한 회원 정보는 클레임에서 가져온다
+		JwtClaims claims = verifyRefreshToken(requestToken);
+		byte[] tokenHash = TokenDigest.sha256(requestToken);
 
-		Long memberId = jwtProvider.getUserIdFromToken(requestToken);
-		Member member = memberRepository.findById(memberId)
-			.orElseThrow(() -> new AuthException(ErrorCode.MEMBER_NOT_FOUND));
+		String deviceId = resolveDeviceId(claims.deviceId());
+		TokenPair tokens = generateTokens(claims.userId(), claims.email(), deviceId);
+		byte[] newTokenHash = TokenDigest.sha256(tokens.refreshToken());
+		LocalDateTime now = LocalDateTime.now();
 
-		refreshToken.markAsBlacklisted();
+		// 조건부 UPDATE의 영향 행 수로 성공 여부를 판단하므로 같은 토큰의 동시 갱신은 하나만 성공한다
+		if (refreshTokenRepository.rotate(tokenHash, newTokenHash, refreshExpiryDate(now), now) == 0) {
+			throw rejectRefreshToken(tokenHash, now);
+		}
 
-		TokenPair tokens = generateAndSaveTokens(member.getId());
+		// 세션 행은 새 토큰으로 덮어쓰이므로 교체된 토큰의 해시는 원래 만료 시각까지 따로 남겨둔다
+		rotatedRefreshTokenRepository.save(RotatedRefreshToken.create(tokenHash, newTokenHash, claims.userId(),
+			deviceId, LocalDateTime.ofInstant(claims.expiresAt(), ZoneId.systemDefault()), now));
 
 		return TokenRefreshResponse.of(tokens.accessToken(), tokens.refreshToken(),
 			jwtProperties.getExpiresInSeconds());
 	}
 
 	@Transactional
-	public void logout(String refreshToken) {
-		RefreshToken token = refreshTokenRepository.findByToken(refreshToken)
-			.orElseThrow(() -> new AuthException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+	public void logout(String refreshToken, String accessToken) {
+		byte[] tokenHash = TokenDigest.sha256(refreshToken);
+
+		// 이미 블랙리스트 처리된 토큰의 로그아웃은 성공으로 간주한다
+		if (refreshTokenRepository.blacklistIfActive(tokenHash) == 0
+			&& refreshTokenRepository.findByTokenHash(tokenHash).isEmpty()) {
+			throw new AuthException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+		}
 
-		token.markAsBlacklisted();
+		revokeAccessToken(accessToken);
 	}
 
-	private void validateRefreshToken(String token) {
-		// 1. JWT 만료 여부 체크
-		if (jwtProvider.isTokenExpired(token)) {
-			throw new AuthException(ErrorCode.TOKEN_EXPIRED);
+	private void revokeAccessToken(String accessToken) {
+		if (!StringUtils.hasText(accessToken)) {
+			return;
+		}
+		try {
+			accessTokenRevocationList.revoke(jwtProvider.verify(accessToken));
+		} catch (JWTVerificationException e) {
+			// 이미 만료되었거나 유효하지 않은 Access Token은 폐기할 필요가 없다
+		}
+	}
+
+	public List<SessionResponse> getSessions(Long memberId) {
+		return refreshTokenRepository.findActiveSessions(memberId, LocalDateTime.now()).stream()
+			.map(SessionResponse::fromEntity)
+			.toList();
+	}
+
+	@Transactional
+	public void revokeSession(Long memberId, String deviceId) {
+		if (refreshTokenRepository.deleteByMemberIdAndDeviceId(memberId, deviceId) == 0) {
+			throw new AuthException(ErrorCode.SESSION_NOT_FOUND);
+		}
+	}
+
+	/**
+	 * 저장된 해시가 현재 bcrypt 설정보다 약하면 백그라운드에서 다시 해시한다.
+	 * 로그인 응답은 기다리지 않으며, 그 사이 비밀번호가 바뀌었으면 갱신하지 않는다.
+	 * 갱신에 성공하면 이전 해시를 담은 인증 정보 캐시를 비운다.
+	 */
+	private void upgradePasswordHashIfNeeded(Member member, String rawPassword) {
+		if (!passwordHasher.needsUpgrade(member.getPassword())) {
+			return;
 		}
+		Long memberId = member.getId();
+		String email = member.getEmail();
+		String oldHash = member.getPassword();
+
+		passwordHasher.encodeInBackground(rawPassword)
+			.thenAccept(newHash -> newHash.ifPresent(hash -> {
+				if (memberRepository.updatePasswordIfUnchanged(memberId, oldHash, hash) == 1) {
+					eventPublisher.publishEvent(new MemberPasswordChangedEvent(memberId, email));
+					log.info("비밀번호 해시 재생성 완료: memberId={}", memberId);
+				}
+			}))
+			.exceptionally(e -> {
+				log.warn("비밀번호 해시 재생성 실패: memberId={}, {}", memberId, e.getMessage());
+				return null;
+			});
+	}
+
+	private String resolveDeviceId(String deviceId) {
+		return StringUtils.hasText(deviceId) ? deviceId : RefreshToken.DEFAULT_DEVICE_ID;
+	}
 
-		// 2. JWT 서명 검증
-		if (!jwtProvider.validateToken(token)) {
+	private JwtClaims verifyRefreshToken(String token) {
+		try {
+			return jwtProvider.verify(token);
+		} catch (TokenExpiredException e) {
+			throw new AuthException(ErrorCode.TOKEN_EXPIRED);
+		} catch (JWTVerificationException e) {
 			throw new AuthException(ErrorCode.TOKEN_INVALID);
 		}
+	}
 
-		// 3. DB에서 Refresh Token 조회 및 상태 확인
-		RefreshToken refreshToken = refreshTokenRepository.findByToken(token)
-			.orElseThrow(() -> new AuthException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+	private AuthException rejectRefreshToken(byte[] tokenHash, LocalDateTime now) {
+		// 실패한 요청에 한해서만 원인 구분을 위한 조회를 수행한다
+		if (refreshTokenRepository.findByTokenHash(tokenHash).isPresent()) {
+			return new AuthException(ErrorCode.TOKEN_BLACKLISTED);
+		}
+		return rotatedRefreshTokenRepository.findByTokenHash(tokenHash)
+			.map(rotated -> isRetryOfRotation(rotated, now)
+				? new AuthException(ErrorCode.TOKEN_BLACKLISTED)
+				: revokeReusedSession(rotated))
+			.orElseGet(() -> new AuthException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+	}
 
-		// 4. 블랙리스트 여부 체크
-		if (refreshToken.isBlacklisted()) {
-			throw new AuthException(ErrorCode.TOKEN_BLACKLISTED);
+	/**
+	 * 교체 직후이고 새 토큰이 아직 한 번도 쓰이지 않았다면 같은 클라이언트의 동시 요청이나 재시도로 본다.
+	 * 이 경우 요청만 거절하고 세션은 유지한다.
+	 */
+	private boolean isRetryOfRotation(RotatedRefreshToken rotated, LocalDateTime now) {
+		if (rotated.getRotatedAt().plusSeconds(jwtProperties.getRefreshReuseGraceSeconds()).isBefore(now)) {
+			return false;
 		}
+		return refreshTokenRepository.findByTokenHash(rotated.getReplacedByHash())
+			.filter(replacement -> !replacement.isBlacklisted())
+			.isPresent();
+	}
+
+	private AuthException revokeReusedSession(RotatedRefreshToken rotated) {
+		// 이미 교체된 토큰이 다시 사용됐다면 정상 사용자와 탈취자 중 누가 보낸 것인지 알 수 없으므로 기기 세션을 끊는다
+		refreshTokenRepository.deleteByMemberIdAndDeviceId(rotated.getMemberId(), rotated.getDeviceId());
+		log.warn("교체된 Refresh Token 재사용 감지, 기기 세션 폐기: memberId={}, deviceId={}",
+			rotated.getMemberId(), rotated.getDeviceId());
+		return new AuthException(ErrorCode.TOKEN_BLACKLISTED);
+	}
+
+	@Transactional
+	public TokenPair generateAndSaveTokens(Long userId, String email) {
+		return generateAndSaveTokens(userId, email, RefreshToken.DEFAULT_DEVICE_ID);
 	}
 
 	@Transactional
-	public TokenPair generateAndSaveTokens(Long userId) {
-		String accessToken = jwtProvider.generateAccessToken(userId);
-		String refreshToken = jwtProvider.generateRefreshToken(userId);
+	public TokenPair generateAndSaveTokens(Long userId, String email, String deviceId) {
+		TokenPair tokens = generateTokens(userId, email, deviceId);
+		LocalDateTime now = LocalDateTime.now();
 
-		LocalDateTime expiryDate = LocalDateTime.now()
-			.plusSeconds(jwtProperties.getRefreshExpiresInSeconds());
+		// 같은 기기의 기존 세션은 교체하고, 다른 기기의 세션은 유지한다
+		refreshTokenRepository.upsert(userId, deviceId, TokenDigest.sha256(tokens.refreshToken()),
+			refreshExpiryDate(now), now);
 
-		refreshTokenRepository.findByMemberId(userId)
-			.ifPresent(refreshTokenRepository::delete);
+		return tokens;
+	}
 
-		RefreshToken refreshTokenEntity = RefreshToken.create(userId, refreshToken, expiryDate);
-		refreshTokenRepository.save(refreshTokenEntity);
+	private TokenPair generateTokens(Long userId, String email, String deviceId) {
+		return new TokenPair(jwtProvider.generateAccessToken(userId, email),
+			jwtProvider.generateRefreshToken(userId, email, deviceId));
+	}
 
-		return new TokenPair(accessToken, refreshToken);
+	private LocalDateTime refreshExpiryDate(LocalDateTime now) {
+		return now.plusSeconds(jwtProperties.getRefreshExpiresInSeconds());
 	}
 }
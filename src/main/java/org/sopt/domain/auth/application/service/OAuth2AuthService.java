@@ -5,6 +5,7 @@ import org.sopt.domain.auth.application.dto.response.LoginResponse;
 import org.sopt.domain.auth.exception.AuthException;
 import org.sopt.global.auth.jwt.JwtProperties;
 import org.sopt.global.auth.oauth2.service.OAuth2TempCodeService;
+import org.sopt.global.auth.oauth2.store.TempCodeGrant;
 import org.sopt.global.response.error.ErrorCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,14 +18,15 @@ import lombok.RequiredArgsConstructor;
 public class OAuth2AuthService {
 
 	private final OAuth2TempCodeService tempCodeService;
+	private final AuthService authService;
 	private final JwtProperties jwtProperties;
 
+	@Transactional
 	public LoginResponse exchangeOAuth2Code(String code) {
-		TokenPair tokens = tempCodeService.consumeCode(code);
+		TempCodeGrant grant = tempCodeService.consumeCode(code)
+			.orElseThrow(() -> new AuthException(ErrorCode.TOKEN_INVALID));
 
-		if (tokens == null) {
-			throw new AuthException(ErrorCode.TOKEN_INVALID);
-		}
+		TokenPair tokens = authService.generateAndSaveTokens(grant.memberId(), grant.email());
 
 		return LoginResponse.of(tokens.accessToken(), tokens.refreshToken(), jwtProperties.getExpiresInSeconds());
 	}
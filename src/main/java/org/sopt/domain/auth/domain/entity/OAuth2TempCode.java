@@ -0,0 +1,60 @@
+package org.sopt.domain.auth.domain.entity;
+
+import java.time.LocalDateTime;
+
+import org.sopt.global.auth.jwt.TokenDigest;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+	name = "oauth2_temp_codes",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_oauth2_temp_codes_code_hash", columnNames = "codeHash")
+	},
+	indexes = {
+		@Index(name = "idx_oauth2_temp_codes_expires_at", columnList = "expiresAt")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OAuth2TempCode {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 원문 코드는 저장하지 않고 SHA-256 해시(32바이트)만 보관
+	@Column(nullable = false, columnDefinition = "BINARY(32)")
+	private byte[] codeHash;
+
+	@Column(nullable = false)
+	private Long memberId;
+
+	@Column(nullable = false)
+	private String email;
+
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	private OAuth2TempCode(byte[] codeHash, Long memberId, String email, LocalDateTime expiresAt) {
+		this.codeHash = codeHash;
+		this.memberId = memberId;
+		this.email = email;
+		this.expiresAt = expiresAt;
+	}
+
+	public static OAuth2TempCode create(String code, Long memberId, String email, LocalDateTime expiresAt) {
+		return new OAuth2TempCode(TokenDigest.sha256(code), memberId, email, expiresAt);
+	}
+}
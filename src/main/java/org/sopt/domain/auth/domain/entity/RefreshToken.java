@@ -1,6 +1,9 @@
 package org.sopt.domain.auth.domain.entity;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.sopt.global.auth.jwt.TokenDigest;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,9 +21,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
 	name = "refresh_tokens",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "tokenHash"),
+		// 회원 + 기기당 하나의 세션 (memberId 선두 컬럼이므로 회원별 조회 인덱스를 겸한다)
+		@UniqueConstraint(name = "uk_refresh_tokens_member_device", columnNames = {"memberId", "deviceId"})
+	},
 	indexes = {
-		@Index(name = "idx_token", columnList = "token"),
-		@Index(name = "idx_member_id", columnList = "memberId"),
 		@Index(name = "idx_expiry_date", columnList = "expiryDate")
 	}
 )
@@ -27,6 +34,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
 
+	public static final String DEFAULT_DEVICE_ID = "default";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -34,8 +43,12 @@ public class RefreshToken {
 	@Column(nullable = false)
 	private Long memberId;
 
-	@Column(nullable = false, unique = true, length = 512)
-	private String token;
+	@Column(nullable = false, length = 64)
+	private String deviceId;
+
+	// 원문 토큰은 저장하지 않고 SHA-256 해시(32바이트)만 보관
+	@Column(nullable = false, columnDefinition = "BINARY(32)")
+	private byte[] tokenHash;
 
 	@Column(nullable = false)
 	private LocalDateTime expiryDate;
@@ -43,23 +56,37 @@ public class RefreshToken {
 	@Column(nullable = false)
 	private boolean isBlacklisted = false;
 
+	// 기기 세션이 처음 만들어진 시각 (토큰 갱신, 같은 기기 재로그인에도 유지)
 	@Column(nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
-	private RefreshToken(Long memberId, String token, LocalDateTime expiryDate) {
+	// 현재 토큰이 발급된 시각 (로그인 또는 마지막 갱신). 컬럼 추가 이전 행은 비어 있다
+	private LocalDateTime lastIssuedAt;
+
+	private RefreshToken(Long memberId, String deviceId, byte[] tokenHash, LocalDateTime expiryDate) {
 		this.memberId = memberId;
-		this.token = token;
+		this.deviceId = deviceId;
+		this.tokenHash = tokenHash;
 		this.expiryDate = expiryDate;
 		this.isBlacklisted = false;
 	}
 
 	public static RefreshToken create(Long memberId, String token, LocalDateTime expiryDate) {
-		return new RefreshToken(memberId, token, expiryDate);
+		return create(memberId, DEFAULT_DEVICE_ID, token, expiryDate);
+	}
+
+	public static RefreshToken create(Long memberId, String deviceId, String token, LocalDateTime expiryDate) {
+		return new RefreshToken(memberId, deviceId, TokenDigest.sha256(token), expiryDate);
 	}
 
 	@PrePersist
 	protected void onCreate() {
 		this.createdAt = LocalDateTime.now();
+		this.lastIssuedAt = this.createdAt;
+	}
+
+	public boolean matches(String token) {
+		return Arrays.equals(tokenHash, TokenDigest.sha256(token));
 	}
 
 	public void markAsBlacklisted() {
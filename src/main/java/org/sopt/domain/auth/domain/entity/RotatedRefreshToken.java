@@ -0,0 +1,72 @@
+package org.sopt.domain.auth.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 갱신(rotation)으로 교체된 Refresh Token의 해시.
+ * 세션 행은 새 토큰으로 덮어쓰이므로, 이전 토큰의 재사용을 탐지할 수 있도록 원래 만료 시각까지 따로 보관한다.
+ */
+@Entity
+@Table(
+	name = "rotated_refresh_tokens",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_rotated_refresh_tokens_token_hash", columnNames = "tokenHash")
+	},
+	indexes = {
+		@Index(name = "idx_rotated_refresh_tokens_expiry_date", columnList = "expiryDate")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RotatedRefreshToken {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, columnDefinition = "BINARY(32)")
+	private byte[] tokenHash;
+
+	// 이 토큰을 대신해 발급된 토큰의 해시. 아직 세션에 남아 있으면 새 토큰이 한 번도 쓰이지 않은 것이다
+	@Column(nullable = false, columnDefinition = "BINARY(32)")
+	private byte[] replacedByHash;
+
+	@Column(nullable = false)
+	private Long memberId;
+
+	@Column(nullable = false, length = 64)
+	private String deviceId;
+
+	@Column(nullable = false)
+	private LocalDateTime expiryDate;
+
+	@Column(nullable = false)
+	private LocalDateTime rotatedAt;
+
+	private RotatedRefreshToken(byte[] tokenHash, byte[] replacedByHash, Long memberId, String deviceId,
+		LocalDateTime expiryDate, LocalDateTime rotatedAt) {
+		this.tokenHash = tokenHash;
+		this.replacedByHash = replacedByHash;
+		this.memberId = memberId;
+		this.deviceId = deviceId;
+		this.expiryDate = expiryDate;
+		this.rotatedAt = rotatedAt;
+	}
+
+	public static RotatedRefreshToken create(byte[] tokenHash, byte[] replacedByHash, Long memberId,
+		String deviceId, LocalDateTime expiryDate, LocalDateTime rotatedAt) {
+		return new RotatedRefreshToken(tokenHash, replacedByHash, memberId, deviceId, expiryDate, rotatedAt);
+	}
+}
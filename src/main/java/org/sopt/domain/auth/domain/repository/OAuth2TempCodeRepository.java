@@ -0,0 +1,27 @@
+package org.sopt.domain.auth.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.sopt.domain.auth.domain.entity.OAuth2TempCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OAuth2TempCodeRepository extends JpaRepository<OAuth2TempCode, Long> {
+
+	@Query("SELECT c FROM OAuth2TempCode c WHERE c.codeHash = :codeHash AND c.expiresAt > :now")
+	Optional<OAuth2TempCode> findActiveByCodeHash(@Param("codeHash") byte[] codeHash, @Param("now") LocalDateTime now);
+
+	// 영향 행 수가 1인 호출만 코드를 소비한 것으로 본다 (동시 교환 시 하나만 성공)
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM OAuth2TempCode c WHERE c.codeHash = :codeHash")
+	int deleteByCodeHash(@Param("codeHash") byte[] codeHash);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query(value = "DELETE FROM oauth2_temp_codes WHERE expires_at < :cutoff LIMIT :limit", nativeQuery = true)
+	int deleteExpiredChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
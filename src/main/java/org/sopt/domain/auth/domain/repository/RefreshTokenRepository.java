@@ -1,17 +1,65 @@
 package org.sopt.domain.auth.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.sopt.domain.auth.domain.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-	Optional<RefreshToken> findByToken(String token);
+	Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
-	Optional<RefreshToken> findByMemberId(Long memberId);
+	List<RefreshToken> findAllByMemberId(Long memberId);
 
-	void deleteByExpiryDateBefore(LocalDateTime dateTime);
+	@Query("SELECT r FROM RefreshToken r WHERE r.memberId = :memberId AND r.isBlacklisted = false "
+		+ "AND r.expiryDate > :now ORDER BY r.createdAt DESC")
+	List<RefreshToken> findActiveSessions(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+
+	// (member_id, device_id) unique 제약을 이용해 조회/삭제 없이 한 문장으로 세션을 저장하거나 교체
+	// 트랜잭션 밖(로그인)에서 호출되면 자체 트랜잭션으로, 그 외에는 기존 트랜잭션에 참여해 실행된다
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	// 기존 세션을 교체할 때 created_at은 유지하고 last_issued_at만 갱신한다
+	@Query(value = "INSERT INTO refresh_tokens "
+		+ "(member_id, device_id, token_hash, expiry_date, is_blacklisted, created_at, last_issued_at) "
+		+ "VALUES (:memberId, :deviceId, :tokenHash, :expiryDate, false, :issuedAt, :issuedAt) "
+		+ "ON DUPLICATE KEY UPDATE token_hash = VALUES(token_hash), expiry_date = VALUES(expiry_date), "
+		+ "is_blacklisted = false, last_issued_at = VALUES(last_issued_at)",
+		nativeQuery = true)
+	int upsert(@Param("memberId") Long memberId, @Param("deviceId") String deviceId,
+		@Param("tokenHash") byte[] tokenHash, @Param("expiryDate") LocalDateTime expiryDate,
+		@Param("issuedAt") LocalDateTime issuedAt);
+
+	// 토큰 갱신: 활성 토큰일 때만 같은 세션 행의 해시를 새 토큰으로 바꾼다 (compare-and-set, 영향 행 수 0이면 실패)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE RefreshToken r SET r.tokenHash = :newTokenHash, r.expiryDate = :expiryDate, "
+		+ "r.lastIssuedAt = :issuedAt WHERE r.tokenHash = :tokenHash AND r.isBlacklisted = false")
+	int rotate(@Param("tokenHash") byte[] tokenHash, @Param("newTokenHash") byte[] newTokenHash,
+		@Param("expiryDate") LocalDateTime expiryDate, @Param("issuedAt") LocalDateTime issuedAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM RefreshToken r WHERE r.memberId = :memberId AND r.deviceId = :deviceId")
+	int deleteByMemberIdAndDeviceId(@Param("memberId") Long memberId, @Param("deviceId") String deviceId);
+
+	// 블랙리스트 처리되지 않은 토큰만 블랙리스트 처리 (compare-and-set, 영향 행 수 0이면 실패)
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE RefreshToken r SET r.isBlacklisted = true WHERE r.tokenHash = :tokenHash AND r.isBlacklisted = false")
+	int blacklistIfActive(@Param("tokenHash") byte[] tokenHash);
+
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM RefreshToken r WHERE r.memberId = :memberId")
+	int deleteAllByMemberId(@Param("memberId") Long memberId);
+
+	// idx_expiry_date 범위 조건으로 최대 limit 건만 삭제하며, 호출마다 별도의 짧은 트랜잭션으로 실행된다
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query(value = "DELETE FROM refresh_tokens WHERE expiry_date < :cutoff LIMIT :limit", nativeQuery = true)
+	int deleteExpiredChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 
 }
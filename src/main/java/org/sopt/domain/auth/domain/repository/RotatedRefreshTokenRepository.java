@@ -0,0 +1,21 @@
+package org.sopt.domain.auth.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.sopt.domain.auth.domain.entity.RotatedRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface RotatedRefreshTokenRepository extends JpaRepository<RotatedRefreshToken, Long> {
+
+	Optional<RotatedRefreshToken> findByTokenHash(byte[] tokenHash);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query(value = "DELETE FROM rotated_refresh_tokens WHERE expiry_date < :cutoff LIMIT :limit", nativeQuery = true)
+	int deleteExpiredChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,20 @@
+package org.sopt.domain.auth.exception;
+
+import org.sopt.global.response.error.ErrorCode;
+
+/**
+ * 로그인 시도 제한으로 거절된 경우. 다음 시도가 허용되기까지 남은 시간(초)을 함께 전달한다.
+ */
+public class LoginRateLimitException extends AuthException {
+
+	private final long retryAfterSeconds;
+
+	public LoginRateLimitException(long retryAfterSeconds) {
+		super(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -7,19 +7,24 @@ import org.sopt.domain.auth.application.dto.response.TokenRefreshResponse;
 import org.sopt.domain.auth.application.service.AuthService;
 import org.sopt.domain.auth.application.service.OAuth2AuthService;
 import org.sopt.global.annotation.ApiExceptions;
+import org.sopt.global.auth.ratelimit.ClientIpResolver;
 import org.sopt.global.annotation.SuccessCodeAnnotation;
 import org.sopt.global.response.CommonApiResponse;
 import org.sopt.global.response.error.ErrorCode;
 import org.sopt.global.response.success.SuccessCode;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -29,19 +34,25 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthController {
 
+	private static final String BEARER_PREFIX = "Bearer ";
+
 	private final AuthService authService;
 	private final OAuth2AuthService oauth2AuthService;
+	private final ClientIpResolver clientIpResolver;
 
 	@Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인하여 Access Token과 Refresh Token을 발급받습니다.")
 	@ApiExceptions({
 		ErrorCode.LOGIN_FAIL,
 		ErrorCode.MEMBER_NOT_FOUND,
-		ErrorCode.INVALID_INPUT
+		ErrorCode.INVALID_INPUT,
+		ErrorCode.AUTH_SERVER_BUSY,
+		ErrorCode.TOO_MANY_LOGIN_ATTEMPTS
 	})
 	@SuccessCodeAnnotation(SuccessCode.LOGIN_SUCCESS)
 	@PostMapping("/login")
-	public CommonApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-		LoginResponse response = authService.login(request);
+	public CommonApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+		@Parameter(hidden = true) HttpServletRequest httpRequest) {
+		LoginResponse response = authService.login(request, clientIpResolver.resolve(httpRequest));
 		return CommonApiResponse.success(SuccessCode.LOGIN_SUCCESS, response);
 	}
 
@@ -60,14 +71,15 @@ public class AuthController {
 		return CommonApiResponse.success(SuccessCode.TOKEN_REFRESH_SUCCESS, response);
 	}
 
-	@Operation(summary = "로그아웃", description = "Refresh Token을 블랙리스트에 등록하여 로그아웃합니다.")
+	@Operation(summary = "로그아웃", description = "Refresh Token을 블랙리스트에 등록하고, Authorization 헤더의 Access Token을 만료 전까지 폐기합니다.")
 	@ApiExceptions({
 		ErrorCode.REFRESH_TOKEN_NOT_FOUND
 	})
 	@SuccessCodeAnnotation(SuccessCode.LOGOUT_SUCCESS)
 	@PostMapping("/logout")
-	public CommonApiResponse<Void> logout(@Valid @RequestBody TokenRefreshRequest request) {
-		authService.logout(request.refreshToken());
+	public CommonApiResponse<Void> logout(@Valid @RequestBody TokenRefreshRequest request,
+		@Parameter(hidden = true) @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+		authService.logout(request.refreshToken(), extractBearerToken(authorization));
 		return CommonApiResponse.success(SuccessCode.LOGOUT_SUCCESS);
 	}
 
@@ -81,4 +93,11 @@ public class AuthController {
 		LoginResponse response = oauth2AuthService.exchangeOAuth2Code(code);
 		return CommonApiResponse.success(SuccessCode.OAUTH2_LOGIN_SUCCESS, response);
 	}
+
+	private String extractBearerToken(String authorization) {
+		if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+			return authorization.substring(BEARER_PREFIX.length());
+		}
+		return null;
+	}
 }
@@ -0,0 +1,54 @@
+package org.sopt.domain.auth.presentation.controller;
+
+import java.util.List;
+
+import org.sopt.domain.auth.application.dto.response.SessionResponse;
+import org.sopt.domain.auth.application.service.AuthService;
+import org.sopt.global.annotation.ApiExceptions;
+import org.sopt.global.annotation.AutoApiResponse;
+import org.sopt.global.annotation.SuccessCodeAnnotation;
+import org.sopt.global.auth.security.CustomUserDetails;
+import org.sopt.global.response.error.ErrorCode;
+import org.sopt.global.response.success.SuccessCode;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/members/me/sessions")
+@AutoApiResponse
+@RequiredArgsConstructor
+@Tag(name = "Session", description = "기기별 로그인 세션 관리 API")
+public class SessionController {
+
+	private final AuthService authService;
+
+	@GetMapping
+	@SuccessCodeAnnotation(SuccessCode.SESSION_VIEW)
+	@Operation(summary = "로그인 세션 목록 조회", description = "현재 로그인한 회원의 기기별 활성 세션을 조회합니다.")
+	public List<SessionResponse> getMySessions(
+		@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails
+	) {
+		return authService.getSessions(userDetails.getMemberId());
+	}
+
+	@DeleteMapping("/{deviceId}")
+	@SuccessCodeAnnotation(SuccessCode.SESSION_REVOKED)
+	@Operation(summary = "기기별 로그아웃", description = "특정 기기의 세션을 종료합니다. 해당 기기의 Refresh Token은 더 이상 사용할 수 없습니다.")
+	@ApiExceptions({ErrorCode.SESSION_NOT_FOUND})
+	public void revokeSession(
+		@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+		@Parameter(description = "기기 ID", required = true, example = "iphone-15")
+		@PathVariable String deviceId
+	) {
+		authService.revokeSession(userDetails.getMemberId(), deviceId);
+	}
+}
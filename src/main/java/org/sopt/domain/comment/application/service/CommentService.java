@@ -12,10 +12,11 @@ import org.sopt.domain.comment.exception.CommentException;
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.domain.member.domain.repository.MemberRepository;
 import org.sopt.domain.member.exception.MemberException;
+import org.sopt.global.response.ApproximatePage;
 import org.sopt.global.response.error.ErrorCode;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,9 +52,10 @@ public class CommentService {
 		return CommentResponse.fromEntity(comment);
 	}
 
-	public Page<CommentResponse> getMyComments(Long authorId, Pageable pageable) {
-		return commentRepository.findByAuthorIdWithArticle(authorId, pageable)
+	public Slice<CommentResponse> getMyComments(Long authorId, Pageable pageable, boolean withTotal) {
+		Slice<CommentResponse> result = commentRepository.findByAuthorIdWithArticle(authorId, pageable)
 			.map(CommentResponse::fromEntity);
+		return withTotal ? ApproximatePage.of(result, () -> commentRepository.countByAuthorId(authorId)) : result;
 	}
 
 	@Transactional
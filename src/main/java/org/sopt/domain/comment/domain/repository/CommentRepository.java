@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.sopt.domain.comment.domain.entity.Comment;
-import org.springframework.data.domain.Page;
+import org.sopt.global.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,10 +22,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 	@Query("SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.article WHERE c.id = :id")
 	Optional<Comment> findByIdWithDetails(@Param("id") Long id);
 
-	// 내가 작성한 댓글 목록 (페이지네이션)
-	@Query(value = "SELECT c FROM Comment c JOIN FETCH c.article WHERE c.author.id = :authorId",
-		countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.author.id = :authorId")
-	Page<Comment> findByAuthorIdWithArticle(@Param("authorId") Long authorId, Pageable pageable);
+	// 내가 작성한 댓글 목록 (Slice, COUNT 쿼리 없음)
+	@Query("SELECT c FROM Comment c JOIN FETCH c.article WHERE c.author.id = :authorId")
+	Slice<Comment> findByAuthorIdWithArticle(@Param("authorId") Long authorId, Pageable pageable);
+
+	// 내가 작성한 댓글 수 (listingCounts 캐시 TTL만큼 늦을 수 있음)
+	@Cacheable(value = CacheConfig.LISTING_COUNTS, key = "'comments:' + #p0")
+	@Query("SELECT COUNT(c) FROM Comment c WHERE c.author.id = :authorId")
+	long countByAuthorId(@Param("authorId") Long authorId);
 
 	// 게시글별 댓글 목록 (ArticleResponse에 포함용)
 	@Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.article.id = :articleId")
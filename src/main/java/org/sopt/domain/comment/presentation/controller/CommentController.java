@@ -8,8 +8,8 @@ import org.sopt.global.annotation.AutoApiResponse;
 import org.sopt.global.annotation.SuccessCodeAnnotation;
 import org.sopt.global.auth.security.CustomUserDetails;
 import org.sopt.global.response.success.SuccessCode;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -60,11 +61,13 @@ public class CommentController {
 	@GetMapping("/me")
 	@SuccessCodeAnnotation(SuccessCode.COMMENT_VIEW)
 	@Operation(summary = "내 댓글 조회", description = "현재 로그인한 사용자가 작성한 모든 댓글을 조회합니다.")
-	public Page<CommentResponse> getMyComments(
+	public Slice<CommentResponse> getMyComments(
 		@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+		@Parameter(description = "전체 건수 포함 여부 (최대 30초 지연된 값)", example = "false")
+		@RequestParam(defaultValue = "false") boolean withTotal,
 		@PageableDefault(size = 20) Pageable pageable
 	) {
-		return commentService.getMyComments(userDetails.getMemberId(), pageable);
+		return commentService.getMyComments(userDetails.getMemberId(), pageable, withTotal);
 	}
 
 	@PutMapping("/{id}")
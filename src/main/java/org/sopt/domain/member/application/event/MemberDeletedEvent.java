@@ -0,0 +1,12 @@
+package org.sopt.domain.member.application.event;
+
+import org.sopt.domain.member.domain.entity.Member;
+
+public record MemberDeletedEvent(
+	Long memberId,
+	String email
+) {
+	public static MemberDeletedEvent from(Member member) {
+		return new MemberDeletedEvent(member.getId(), member.getEmail());
+	}
+}
@@ -0,0 +1,7 @@
+package org.sopt.domain.member.application.event;
+
+public record MemberPasswordChangedEvent(
+	Long memberId,
+	String email
+) {
+}
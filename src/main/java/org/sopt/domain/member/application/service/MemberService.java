@@ -1,17 +1,23 @@
 package org.sopt.domain.member.application.service;
 
+import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
 import org.sopt.domain.member.application.dto.MemberCreateRequest;
 import org.sopt.domain.member.application.dto.MemberResponse;
 import org.sopt.domain.member.application.dto.SocialMemberCreateRequest;
+import org.sopt.domain.member.application.event.MemberDeletedEvent;
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.domain.member.domain.repository.MemberRepository;
 import org.sopt.domain.member.domain.service.MemberValidator;
 import org.sopt.domain.member.exception.MemberException;
+import org.sopt.global.auth.security.PasswordHasher;
+import org.sopt.global.response.ApproximatePage;
 import org.sopt.global.response.error.ErrorCode;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,20 +28,31 @@ import lombok.RequiredArgsConstructor;
 public class MemberService {
 
 	private final MemberRepository memberRepository;
+	private final RefreshTokenRepository refreshTokenRepository;
 	private final MemberValidator memberValidator;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
+	private final ApplicationEventPublisher eventPublisher;
 
-	@Transactional
+	/**
+	 * bcrypt 계산 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행하고,
+	 * 조회와 저장은 각각 리포지토리의 짧은 트랜잭션으로 처리한다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public MemberResponse create(MemberCreateRequest request) {
 		if (memberRepository.existsByEmail(request.email())) {
 			throw new MemberException(ErrorCode.DUPLICATE_EMAIL);
 		}
 
-		String encodedPassword = passwordEncoder.encode(request.password());
+		String encodedPassword = passwordHasher.encode(request.password());
 		Member member = memberValidator.createValidatedMember(encodedPassword, request.name(), request.birthDate(),
 			request.email(), request.gender());
 
-		memberRepository.save(member);
+		// 중복 확인과 저장 사이에 같은 이메일이 가입된 경우 unique 제약으로 걸러낸다
+		try {
+			memberRepository.save(member);
+		} catch (DataIntegrityViolationException e) {
+			throw new MemberException(ErrorCode.DUPLICATE_EMAIL);
+		}
 
 		return MemberResponse.fromEntity(member);
 	}
@@ -46,34 +63,50 @@ public class MemberService {
 		return MemberResponse.fromEntity(member);
 	}
 
-	public Page<MemberResponse> findAllMembers(Pageable pageable) {
-		return memberRepository.findAll(pageable).map(MemberResponse::fromEntity);
+	public Slice<MemberResponse> findAllMembers(Pageable pageable, boolean withTotal) {
+		Slice<MemberResponse> result = memberRepository.findSlice(pageable).map(MemberResponse::fromEntity);
+		return withTotal ? ApproximatePage.of(result, memberRepository::countAll) : result;
 	}
 
 	@Transactional
 	public void deleteMember(Long memberId) {
 		Member member = memberRepository.findById(memberId)
 			.orElseThrow(() -> new MemberException(ErrorCode.MEMBER_NOT_FOUND));
+		// 벌크 삭제는 영속성 컨텍스트를 비우므로, 먼저 실행해야 뒤에 쌓인 회원 DELETE가 버려지지 않는다
+		refreshTokenRepository.deleteAllByMemberId(memberId);
 		memberRepository.delete(member);
+
+		// 인증 정보 캐시 무효화와 Access Token 폐기는 커밋 이후에 수행한다
+		eventPublisher.publishEvent(MemberDeletedEvent.from(member));
 	}
 
-	@Transactional
+	/**
+	 * 재방문 회원은 (provider, providerId) 인덱스 조회 한 번으로 끝나고,
+	 * 최초 로그인은 unique 제약에 기대어 바로 INSERT 한다.
+	 * 실패한 INSERT 이후에도 다시 조회할 수 있도록 트랜잭션 없이 실행한다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Member getOrCreateSocialMember(SocialMemberCreateRequest request) {
 		return memberRepository.findByProviderAndProviderId(request.provider(), request.providerId())
-			.orElseGet(() -> {
-				// 같은 이메일이 이미 존재하면 중복 에러
-				if (memberRepository.existsByEmail(request.email())) {
-					throw new MemberException(ErrorCode.DUPLICATE_EMAIL);
-				}
+			.orElseGet(() -> createSocialMember(request));
+	}
 
-				Member newMember = Member.createSocialMember(
-					request.email(),
-					request.name(),
-					request.provider(),
-					request.providerId(),
-					request.profileImageUrl()
-				);
-				return memberRepository.save(newMember);
-			});
+	private Member createSocialMember(SocialMemberCreateRequest request) {
+		Member newMember = Member.createSocialMember(
+			request.email(),
+			request.name(),
+			request.provider(),
+			request.providerId(),
+			request.profileImageUrl()
+		);
+
+		try {
+			return memberRepository.save(newMember);
+		} catch (DataIntegrityViolationException e) {
+			// 같은 소셜 계정의 동시 최초 로그인이면 먼저 가입된 회원을 사용하고,
+			// 그렇지 않으면 같은 이메일의 다른 회원과 충돌한 것이다
+			return memberRepository.findByProviderAndProviderId(request.provider(), request.providerId())
+				.orElseThrow(() -> new MemberException(ErrorCode.DUPLICATE_EMAIL));
+		}
 	}
 }
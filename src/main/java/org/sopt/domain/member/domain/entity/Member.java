@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,10 +21,14 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member", indexes = {
-	@Index(name = "idx_member_name", columnList = "name"),
-	@Index(name = "idx_member_provider_providerid", columnList = "provider, providerId")
-})
+@Table(name = "member",
+	uniqueConstraints = {
+		// 소셜 계정당 회원 하나 (동시 최초 로그인 시 중복 가입 방지, 로컬 회원은 providerId가 NULL)
+		@UniqueConstraint(name = "uk_member_provider_provider_id", columnNames = {"provider", "providerId"})
+	},
+	indexes = {
+		@Index(name = "idx_member_name", columnList = "name")
+	})
 public class Member extends BaseTimeEntity {
 
 	@Id
@@ -4,7 +4,15 @@ import java.util.Optional;
 
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.domain.member.domain.entity.SocialProvider;
+import org.sopt.global.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 	boolean existsByEmail(String email);
@@ -13,4 +21,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
 	Optional<Member> findByProviderAndProviderId(SocialProvider provider, String providerId);
 
+	// 회원 목록 (Slice, COUNT 쿼리 없음)
+	@Query("SELECT m FROM Member m")
+	Slice<Member> findSlice(Pageable pageable);
+
+	// 전체 회원 수 (listingCounts 캐시 TTL만큼 늦을 수 있음)
+	@Cacheable(value = CacheConfig.LISTING_COUNTS, key = "'members'")
+	@Query("SELECT COUNT(m) FROM Member m")
+	long countAll();
+
+	// 해시를 읽은 이후 비밀번호가 바뀌었다면 갱신하지 않는다 (compare-and-set)
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :id AND m.password = :oldPassword")
+	int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+		@Param("newPassword") String newPassword);
+
 }
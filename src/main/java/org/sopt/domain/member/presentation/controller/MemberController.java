@@ -9,8 +9,8 @@ import org.sopt.global.annotation.SuccessCodeAnnotation;
 import org.sopt.global.auth.security.CustomUserDetails;
 import org.sopt.global.response.error.ErrorCode;
 import org.sopt.global.response.success.SuccessCode;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,7 +40,7 @@ public class MemberController {
 	@SuccessCodeAnnotation(SuccessCode.MEMBER_CREATED)
 	@Operation(summary = "회원 가입", description = "새로운 회원을 등록합니다.")
 	@ApiExceptions({ErrorCode.DUPLICATE_EMAIL, ErrorCode.INVALID_INPUT, ErrorCode.INVALID_FORMAT,
-		ErrorCode.BIRTH_DATE_REQUIRED, ErrorCode.BIRTH_DATE_FUTURE, ErrorCode.AGE_UNDER_20})
+		ErrorCode.BIRTH_DATE_REQUIRED, ErrorCode.BIRTH_DATE_FUTURE, ErrorCode.AGE_UNDER_20, ErrorCode.AUTH_SERVER_BUSY})
 	public MemberResponse createMember(
 		@Parameter(description = "회원 가입 정보", required = true)
 		@Valid @RequestBody MemberCreateRequest request
@@ -60,10 +61,12 @@ public class MemberController {
 	@GetMapping
 	@SuccessCodeAnnotation(SuccessCode.MEMBER_VIEW)
 	@Operation(summary = "전체 회원 조회", description = "등록된 모든 회원의 정보를 페이징하여 조회합니다.")
-	public Page<MemberResponse> getAllMembers(
+	public Slice<MemberResponse> getAllMembers(
+		@Parameter(description = "전체 건수 포함 여부 (최대 30초 지연된 값)", example = "false")
+		@RequestParam(defaultValue = "false") boolean withTotal,
 		@PageableDefault(size = 20) Pageable pageable
 	) {
-		return memberService.findAllMembers(pageable);
+		return memberService.findAllMembers(pageable, withTotal);
 	}
 
 	@DeleteMapping("/me")
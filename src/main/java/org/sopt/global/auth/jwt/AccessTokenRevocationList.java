@@ -0,0 +1,124 @@
+package org.sopt.global.auth.jwt;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 전에 폐기된 Access Token 목록 (프로세스 메모리).
+ *
+ * <p>토큰 ID는 만료 시각 기준의 시간 버킷에 저장합니다. 버킷은 링 구조로 재사용되며,
+ * 슬롯이 다음 주기의 버킷으로 교체될 때 이전 버킷의 토큰은 이미 모두 만료된 상태이므로
+ * 별도의 정리 작업 없이 통째로 버려집니다.</p>
+ *
+ * <p>회원 탈퇴처럼 특정 시점 이전에 발급된 토큰을 일괄 폐기해야 하는 경우에는
+ * 회원별 워터마크(발급 시각)를 사용합니다.</p>
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+	private static final long BUCKET_SECONDS = 60;
+
+	private final long accessTokenTtlSeconds;
+	private final AtomicReferenceArray<Bucket> buckets;
+	private final ConcurrentHashMap<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+	public AccessTokenRevocationList(JwtProperties jwtProperties) {
+		this.accessTokenTtlSeconds = jwtProperties.getExpiresInSeconds();
+		// 토큰 수명 + 경계 버킷 여유분만큼의 슬롯이 있으면 살아있는 토큰의 버킷끼리 겹치지 않는다
+		int slots = (int)(accessTokenTtlSeconds / BUCKET_SECONDS) + 2;
+		this.buckets = new AtomicReferenceArray<>(slots);
+	}
+
+	/**
+	 * 단일 Access Token을 만료 시각까지 폐기합니다.
+	 */
+	public void revoke(JwtClaims claims) {
+		if (claims.tokenId() == null || claims.expiresAt() == null) {
+			return;
+		}
+		long epoch = bucketEpoch(claims.expiresAt());
+		if (epoch < bucketEpoch(Instant.now())) {
+			return;
+		}
+		bucketFor(epoch).tokenIds.add(claims.tokenId());
+	}
+
+	/**
+	 * 회원에게 지정 시각 이전에 발급된 모든 Access Token을 폐기합니다.
+	 */
+	public void revokeAllIssuedBefore(Long memberId, Instant instant) {
+		revokedBefore.merge(memberId, instant.getEpochSecond(), Math::max);
+	}
+
+	public boolean isRevoked(JwtClaims claims) {
+		if (!revokedBefore.isEmpty() && claims.issuedAt() != null) {
+			Long watermark = revokedBefore.get(claims.userId());
+			if (watermark != null && claims.issuedAt().getEpochSecond() <= watermark) {
+				return true;
+			}
+		}
+
+		if (claims.tokenId() == null || claims.expiresAt() == null) {
+			return false;
+		}
+		long epoch = bucketEpoch(claims.expiresAt());
+		Bucket bucket = buckets.get(slot(epoch));
+		// 슬롯이 다른 주기의 버킷이면 해당 만료 시각에 폐기된 토큰은 없다
+		return bucket != null && bucket.epoch == epoch && bucket.tokenIds.contains(claims.tokenId());
+	}
+
+	/**
+	 * 워터마크 이후 발급된 토큰만 남는 시점(토큰 수명 경과)이 지나면 워터마크는 더 이상 필요 없다.
+	 */
+	@Scheduled(fixedRate = 60000)
+	public void pruneWatermarks() {
+		long threshold = Instant.now().getEpochSecond() - accessTokenTtlSeconds;
+		int before = revokedBefore.size();
+		revokedBefore.values().removeIf(watermark -> watermark < threshold);
+		int removed = before - revokedBefore.size();
+		if (removed > 0) {
+			log.debug("Access Token 폐기 워터마크 정리: {}건 제거, 남은 회원 {}명", removed, revokedBefore.size());
+		}
+	}
+
+	private Bucket bucketFor(long epoch) {
+		int slot = slot(epoch);
+		while (true) {
+			Bucket current = buckets.get(slot);
+			if (current != null && current.epoch == epoch) {
+				return current;
+			}
+			// 이전 주기의 버킷은 교체와 동시에 버려진다
+			Bucket fresh = new Bucket(epoch);
+			if (buckets.compareAndSet(slot, current, fresh)) {
+				return fresh;
+			}
+		}
+	}
+
+	private int slot(long epoch) {
+		return (int)(epoch % buckets.length());
+	}
+
+	private static long bucketEpoch(Instant instant) {
+		return instant.getEpochSecond() / BUCKET_SECONDS;
+	}
+
+	private static final class Bucket {
+
+		private final long epoch;
+		private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+		private Bucket(long epoch) {
+			this.epoch = epoch;
+		}
+	}
+}
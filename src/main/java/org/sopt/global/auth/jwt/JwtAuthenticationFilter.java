@@ -2,7 +2,9 @@ package org.sopt.global.auth.jwt;
 
 import java.io.IOException;
 
+import org.sopt.global.auth.security.CustomUserDetails;
 import org.sopt.global.auth.security.CustomUserDetailsService;
+import org.sopt.global.auth.security.PublicRoutes;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +13,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,8 +30,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 	private static final String BEARER_PREFIX = "Bearer ";
 
-	private final JwtProvider jwtProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final AccessTokenRevocationList accessTokenRevocationList;
 	private final CustomUserDetailsService customUserDetailsService;
+	private final JwtProperties jwtProperties;
+
+	// permitAll 경로는 토큰이 있어도 검증/회원 조회를 하지 않는다 (만료된 토큰으로 /auth/refresh 호출 등)
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return PublicRoutes.matches(request);
+	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request,
@@ -36,21 +48,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		try {
 			String token = extractTokenFromRequest(request);
 
-			if (token != null && jwtProvider.validateToken(token)) {
-				Long userId = jwtProvider.getUserIdFromToken(token);
-				UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+			if (token != null) {
+				JwtClaims claims = verifiedTokenCache.verify(token);
+				Long userId = claims.userId();
 
-				UsernamePasswordAuthenticationToken authentication =
-					new UsernamePasswordAuthenticationToken(
-						userDetails,
-						null,
-						userDetails.getAuthorities()
-					);
-				authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+				// 로그아웃/탈퇴로 폐기된 토큰은 인증하지 않는다
+				if (accessTokenRevocationList.isRevoked(claims)) {
+					log.debug("폐기된 Access Token: userId={}", userId);
+				} else {
+					UserDetails userDetails = resolvePrincipal(claims);
 
-				SecurityContextHolder.getContext().setAuthentication(authentication);
-				log.debug("JWT 인증 성공: userId={}", userId);
+					UsernamePasswordAuthenticationToken authentication =
+						new UsernamePasswordAuthenticationToken(
+							userDetails,
+							null,
+							userDetails.getAuthorities()
+						);
+					authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+					log.debug("JWT 인증 성공: userId={}", userId);
+				}
 			}
+		} catch (JWTVerificationException e) {
+			// 만료/위조 토큰은 인증 없이 진행하고, 보호된 경로라면 EntryPoint가 401을 응답한다
+			log.debug("JWT 검증 실패: {}", e.getMessage());
 		} catch (Exception e) {
 			log.error("JWT 인증 실패: {}", e.getMessage());
 		}
@@ -58,6 +80,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	private UserDetails resolvePrincipal(JwtClaims claims) {
+		// 이메일 클레임이 없는 (이전에 발급된) 토큰은 DB에서 회원을 조회한다
+		if (jwtProperties.isStatelessPrincipal() && claims.email() != null) {
+			return new CustomUserDetails(claims.userId(), claims.email(), null);
+		}
+		return customUserDetailsService.loadUserById(claims.userId());
+	}
+
 	private String extractTokenFromRequest(HttpServletRequest request) {
 		String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
 
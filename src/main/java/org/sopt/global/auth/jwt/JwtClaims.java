@@ -0,0 +1,13 @@
+package org.sopt.global.auth.jwt;
+
+import java.time.Instant;
+
+public record JwtClaims(
+	Long userId,
+	String email,
+	String deviceId,
+	String tokenId,
+	Instant issuedAt,
+	Instant expiresAt
+) {
+}
@@ -15,4 +15,16 @@ public class JwtProperties {
 	private String secret;
 	private Long expiresInSeconds;
 	private Long refreshExpiresInSeconds;
+	// 교체 직후 같은 Refresh Token이 다시 오면(동시 요청, 타임아웃 후 재시도) 탈취로 보지 않는 시간
+	private long refreshReuseGraceSeconds = 10;
+	private boolean statelessPrincipal = false;
+	private VerifiedCache verifiedCache = new VerifiedCache();
+
+	@Getter
+	@Setter
+	public static class VerifiedCache {
+
+		private boolean enabled = true;
+		private long maximumSize = 10_000;
+	}
 }
@@ -2,49 +2,83 @@ package org.sopt.global.auth.jwt;
 
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 
-import lombok.RequiredArgsConstructor;
-
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
+	private static final String EMAIL_CLAIM = "email";
+	private static final String DEVICE_ID_CLAIM = "did";
+
 	private final JwtProperties jwtProperties;
 
-	public String generateAccessToken(Long userId) {
+	// Algorithm, JWTVerifier는 불변 객체이므로 기동 시 한 번만 생성해 재사용
+	private final Algorithm algorithm;
+	private final JWTVerifier verifier;
+
+	public JwtProvider(JwtProperties jwtProperties) {
+		this.jwtProperties = jwtProperties;
+		this.algorithm = Algorithm.HMAC256(jwtProperties.getSecret());
+		this.verifier = JWT.require(algorithm).build();
+	}
+
+	public String generateAccessToken(Long userId, String email) {
 		Instant now = Instant.now();
 		Instant expiryDate = now.plusSeconds(jwtProperties.getExpiresInSeconds());
 
+		// 인증 필터가 DB 조회 없이 principal을 만들 수 있도록 필요한 클레임을 담는다
 		return JWT.create()
 			.withSubject(String.valueOf(userId))
+			.withClaim(EMAIL_CLAIM, email)
+			.withJWTId(UUID.randomUUID().toString())  // 만료 전 폐기 대상을 식별하기 위한 ID
 			.withIssuedAt(Date.from(now))
 			.withExpiresAt(Date.from(expiryDate))
-			.sign(Algorithm.HMAC256(jwtProperties.getSecret()));
+			.sign(algorithm);
 	}
 
-	public String generateRefreshToken(Long userId) {
+	public String generateRefreshToken(Long userId, String email, String deviceId) {
 		Instant now = Instant.now();
 		Instant expiryDate = now.plusSeconds(jwtProperties.getRefreshExpiresInSeconds());
 
+		// 토큰 갱신 시 회원 조회 없이 새 Access Token을 발급할 수 있도록 이메일을 함께 담는다
 		return JWT.create()
 			.withSubject(String.valueOf(userId))
+			.withClaim(EMAIL_CLAIM, email)
+			.withClaim(DEVICE_ID_CLAIM, deviceId)
+			.withJWTId(UUID.randomUUID().toString())  // 같은 초에 발급돼도 토큰(해시)이 겹치지 않도록
 			.withIssuedAt(Date.from(now))
 			.withExpiresAt(Date.from(expiryDate))
-			.sign(Algorithm.HMAC256(jwtProperties.getSecret()));
+			.sign(algorithm);
+	}
+
+	/**
+	 * 서명과 만료를 한 번에 검증하고 클레임을 반환합니다.
+	 *
+	 * @throws JWTVerificationException 서명이 올바르지 않거나 만료된 경우 (만료 시 TokenExpiredException)
+	 */
+	public JwtClaims verify(String token) {
+		DecodedJWT decodedJWT = verifier.verify(token);
+		return new JwtClaims(
+			Long.parseLong(decodedJWT.getSubject()),
+			decodedJWT.getClaim(EMAIL_CLAIM).asString(),
+			decodedJWT.getClaim(DEVICE_ID_CLAIM).asString(),
+			decodedJWT.getId(),
+			decodedJWT.getIssuedAtAsInstant(),
+			decodedJWT.getExpiresAtAsInstant()
+		);
 	}
 
 	public boolean validateToken(String token) {
 		try {
-			JWT.require(Algorithm.HMAC256(jwtProperties.getSecret()))
-				.build()
-				.verify(token);
+			verifier.verify(token);
 			return true;
 		} catch (JWTVerificationException e) {
 			return false;
@@ -52,10 +86,7 @@ public class JwtProvider {
 	}
 
 	public Long getUserIdFromToken(String token) {
-		DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC256(jwtProperties.getSecret()))
-			.build()
-			.verify(token);
-		return Long.parseLong(decodedJWT.getSubject());
+		return verify(token).userId();
 	}
 
 	public boolean isTokenExpired(String token) {
@@ -67,4 +98,3 @@ public class JwtProvider {
 		}
 	}
 }
-
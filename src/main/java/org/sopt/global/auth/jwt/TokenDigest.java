@@ -0,0 +1,21 @@
+package org.sopt.global.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public final class TokenDigest {
+
+	private static final String ALGORITHM = "SHA-256";
+
+	private TokenDigest() {
+	}
+
+	public static byte[] sha256(String token) {
+		try {
+			return MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package org.sopt.global.auth.jwt;
+
+import java.nio.ByteBuffer;
+
+import org.sopt.global.config.CacheConfig;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 검증이 끝난 Access Token의 클레임을 토큰 만료 시각까지 보관합니다.
+ * 원문 토큰 대신 SHA-256 다이제스트를 키로 사용하며, 비활성화 시 매번 JwtProvider로 검증합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final JwtProvider jwtProvider;
+	private final Cache<Object, Object> cache;
+
+	public VerifiedTokenCache(JwtProvider jwtProvider, CacheManager cacheManager) {
+		this.jwtProvider = jwtProvider;
+		CaffeineCache caffeineCache = (CaffeineCache)cacheManager.getCache(CacheConfig.VERIFIED_TOKENS);
+		this.cache = caffeineCache != null ? caffeineCache.getNativeCache() : null;
+	}
+
+	public JwtClaims verify(String token) {
+		if (cache == null) {
+			return jwtProvider.verify(token);
+		}
+
+		// ByteBuffer는 내용 기반 equals/hashCode를 제공하므로 다이제스트 키로 그대로 사용
+		ByteBuffer key = ByteBuffer.wrap(TokenDigest.sha256(token));
+		if (cache.getIfPresent(key) instanceof JwtClaims cached) {
+			return cached;
+		}
+
+		JwtClaims claims = jwtProvider.verify(token);
+		cache.put(key, claims);
+		return claims;
+	}
+}
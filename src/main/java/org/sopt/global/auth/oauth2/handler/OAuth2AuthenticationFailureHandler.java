@@ -16,7 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class OAuth2AuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 
-	@Value("${oauth2.failure-redirect-url:http://localhost:8080/login?error=true}")
+	@Value("${oauth2.failure-redirect-url:http://localhost:8080/login}")
 	private String redirectUrl;
 
 	@Override
@@ -26,7 +26,7 @@ public class OAuth2AuthenticationFailureHandler extends SimpleUrlAuthenticationF
 		log.error("OAuth2 authentication failed", exception);
 
 		String targetUrl = UriComponentsBuilder.fromUriString(redirectUrl)
-			.queryParam("error", exception.getMessage())
+			.replaceQueryParam("error", exception.getMessage())
 			.build()
 			.toUriString();
 
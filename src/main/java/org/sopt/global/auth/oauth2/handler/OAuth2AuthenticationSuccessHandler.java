@@ -2,8 +2,7 @@ package org.sopt.global.auth.oauth2.handler;
 
 import java.io.IOException;
 
-import org.sopt.domain.auth.application.dto.TokenPair;
-import org.sopt.domain.auth.application.service.AuthService;
+import org.sopt.domain.auth.exception.AuthException;
 import org.sopt.global.auth.oauth2.service.OAuth2TempCodeService;
 import org.sopt.global.auth.security.CustomUserDetails;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,17 +14,21 @@ import org.springframework.web.util.UriComponentsBuilder;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-	private final AuthService authService;
 	private final OAuth2TempCodeService tempCodeService;
 
 	@Value("${oauth2.success-redirect-url:http://localhost:8080/oauth2/redirect}")
 	private String redirectUrl;
 
+	@Value("${oauth2.failure-redirect-url:http://localhost:8080/login}")
+	private String failureRedirectUrl;
+
 	@Override
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
 		Authentication authentication) throws IOException {
@@ -33,13 +36,23 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 		CustomUserDetails userDetails = (CustomUserDetails)authentication.getPrincipal();
 		Long userId = userDetails.getMemberId();
 
-		TokenPair tokens = authService.generateAndSaveTokens(userId);
-		String code = tempCodeService.generateCode(tokens);
-
-		String targetUrl = UriComponentsBuilder.fromUriString(redirectUrl)
-			.queryParam("code", code)
-			.build()
-			.toUriString();
+		// 토큰은 임시 코드 교환 시점에 발급한다
+		String targetUrl;
+		try {
+			String code = tempCodeService.generateCode(userId, userDetails.getUsername());
+			targetUrl = UriComponentsBuilder.fromUriString(redirectUrl)
+				.queryParam("code", code)
+				.build()
+				.toUriString();
+		} catch (AuthException e) {
+			// 임시 코드 저장소가 가득 찬 경우 실패 페이지로 보내 재시도하도록 한다
+			log.warn("OAuth2 임시 코드 발급 거절: userId={}, reason={}", userId, e.getErrorCode().getCode());
+			// 설정된 URL에 error 파라미터가 이미 있어도 하나만 남긴다
+			targetUrl = UriComponentsBuilder.fromUriString(failureRedirectUrl)
+				.replaceQueryParam("error", e.getErrorCode().getCode())
+				.build()
+				.toUriString();
+		}
 
 		getRedirectStrategy().sendRedirect(request, response, targetUrl);
 	}
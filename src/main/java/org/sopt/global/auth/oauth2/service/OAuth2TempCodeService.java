@@ -1,55 +1,39 @@
 package org.sopt.global.auth.oauth2.service;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
-import org.sopt.domain.auth.application.dto.TokenPair;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.sopt.global.auth.oauth2.store.OAuth2TempCodeStore;
+import org.sopt.global.auth.oauth2.store.TempCodeGrant;
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class OAuth2TempCodeService {
 
-	private static final long EXPIRATION_SECONDS = 30;
-	private final Map<String, TempCodeData> tempCodes = new ConcurrentHashMap<>();
+	private static final long EXPIRATION_MILLIS = 30_000;
 
-	public String generateCode(TokenPair tokens) {
+	private final OAuth2TempCodeStore tempCodeStore;
+
+	/**
+	 * @throws org.sopt.domain.auth.exception.AuthException 저장소가 가득 차 새 코드를 받을 수 없는 경우
+	 */
+	public String generateCode(Long memberId, String email) {
 		String code = UUID.randomUUID().toString();
-		LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(EXPIRATION_SECONDS);
-		tempCodes.put(code, new TempCodeData(tokens, expiresAt));
-		log.debug("Temporary code generated: {}", code);
+		tempCodeStore.save(code, new TempCodeGrant(memberId, email), System.currentTimeMillis() + EXPIRATION_MILLIS);
+		log.debug("Temporary code generated: memberId={}", memberId);
 		return code;
 	}
 
-	public TokenPair consumeCode(String code) {
-		TempCodeData data = tempCodes.remove(code);
-
-		if (data == null) {
-			log.warn("Invalid or already used code: {}", code);
-			return null;
+	public Optional<TempCodeGrant> consumeCode(String code) {
+		Optional<TempCodeGrant> grant = tempCodeStore.consume(code);
+		if (grant.isEmpty()) {
+			log.warn("Invalid, expired or already used code");
 		}
-
-		if (data.expiresAt.isBefore(LocalDateTime.now())) {
-			log.warn("Expired code: {}", code);
-			return null;
-		}
-
-		log.debug("Code consumed successfully: {}", code);
-		return data.tokens;
-	}
-
-	@Scheduled(fixedRate = 60000)
-	public void cleanupExpiredCodes() {
-		LocalDateTime now = LocalDateTime.now();
-		tempCodes.entrySet().removeIf(entry -> entry.getValue().expiresAt.isBefore(now));
-		log.debug("Cleaned up expired temporary codes. Remaining: {}", tempCodes.size());
-	}
-
-	private record TempCodeData(TokenPair tokens, LocalDateTime expiresAt) {
+		return grant;
 	}
 }
@@ -0,0 +1,156 @@
+package org.sopt.global.auth.oauth2.store;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.sopt.domain.auth.exception.AuthException;
+import org.sopt.global.response.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 메모리 기반 임시 코드 저장소 (단일 인스턴스 전용).
+ *
+ * <p>만료는 1초 단위 타이밍 휠로 처리합니다. 코드는 만료 초에 해당하는 슬롯에 등록되고,
+ * 매 틱마다 해당 슬롯만 비우므로 전체 맵을 스캔하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "oauth2.temp-code.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOAuth2TempCodeStore implements OAuth2TempCodeStore {
+
+	private static final long TICK_MILLIS = 1_000;
+	// 코드 수명(30초)보다 큰 2의 거듭제곱이면 한 바퀴 안에 모든 코드가 만료된다
+	private static final int WHEEL_SIZE = 64;
+
+	private final int maxCodes;
+	private final LongSupplier clock;
+	private final Map<String, TempCodeData> tempCodes = new ConcurrentHashMap<>();
+	private final Queue<ExpiryEntry>[] wheel;
+	private final AtomicInteger liveCodes = new AtomicInteger();
+	private final LongAdder expiredCount = new LongAdder();
+	private final LongAdder rejectedCount = new LongAdder();
+	private long lastTick;
+
+	@Autowired
+	public InMemoryOAuth2TempCodeStore(@Value("${oauth2.temp-code.max-codes:10000}") int maxCodes) {
+		this(maxCodes, System::currentTimeMillis);
+	}
+
+	// 테스트에서 틱을 직접 진행시킬 수 있도록 현재 시각(epoch millis)을 주입받는다
+	@SuppressWarnings("unchecked")
+	InMemoryOAuth2TempCodeStore(int maxCodes, LongSupplier clock) {
+		this.maxCodes = maxCodes;
+		this.clock = clock;
+		this.wheel = new Queue[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new ConcurrentLinkedQueue<>();
+		}
+		this.lastTick = clock.getAsLong() / TICK_MILLIS;
+	}
+
+	@Override
+	public void save(String code, TempCodeGrant grant, long expiresAt) {
+		if (liveCodes.incrementAndGet() > maxCodes) {
+			liveCodes.decrementAndGet();
+			rejectedCount.increment();
+			log.warn("Temporary code rejected: capacity {} reached", maxCodes);
+			throw new AuthException(ErrorCode.OAUTH2_TEMP_CODE_CAPACITY_EXCEEDED);
+		}
+
+		tempCodes.put(code, new TempCodeData(grant, expiresAt));
+		// 만료 시각 이후 첫 틱의 슬롯에 등록해 해당 틱에서 바로 제거되도록 한다
+		long expiryTick = (expiresAt + TICK_MILLIS - 1) / TICK_MILLIS;
+		wheel[slot(expiryTick)].add(new ExpiryEntry(code, expiresAt));
+	}
+
+	@Override
+	public Optional<TempCodeGrant> consume(String code) {
+		TempCodeData data = tempCodes.remove(code);
+
+		if (data == null) {
+			return Optional.empty();
+		}
+		liveCodes.decrementAndGet();
+
+		// 다음 틱 전까지는 만료된 코드가 남아 있을 수 있으므로 직접 확인한다
+		if (data.expiresAt < clock.getAsLong()) {
+			expiredCount.increment();
+			return Optional.empty();
+		}
+
+		return Optional.of(data.grant);
+	}
+
+	@Scheduled(fixedRate = TICK_MILLIS)
+	public synchronized void advanceWheel() {
+		long now = clock.getAsLong();
+		long currentTick = now / TICK_MILLIS;
+
+		// 스케줄러 지연으로 밀린 틱도 따라잡되, 한 바퀴 이상은 돌 필요가 없다
+		long from = Math.max(lastTick + 1, currentTick - WHEEL_SIZE + 1);
+		for (long tick = from; tick <= currentTick; tick++) {
+			expireSlot(wheel[slot(tick)], now);
+		}
+		lastTick = currentTick;
+	}
+
+	@Scheduled(fixedRate = 60000)
+	public void logStats() {
+		log.debug("Temporary code stats - live: {}, expired: {}, rejected: {}, capacity: {}",
+			liveCodes.get(), expiredCount.sum(), rejectedCount.sum(), maxCodes);
+	}
+
+	public int getLiveCodeCount() {
+		return liveCodes.get();
+	}
+
+	public long getExpiredCount() {
+		return expiredCount.sum();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.sum();
+	}
+
+	private void expireSlot(Queue<ExpiryEntry> slot, long now) {
+		int pending = slot.size();
+		for (int i = 0; i < pending; i++) {
+			ExpiryEntry entry = slot.poll();
+			if (entry == null) {
+				return;
+			}
+			// 아직 만료되지 않은 항목(다음 바퀴 몫)은 다시 넣는다
+			if (entry.expiresAt > now) {
+				slot.add(entry);
+				continue;
+			}
+			// 이미 사용된 코드는 맵에 없으므로 카운트하지 않는다
+			if (tempCodes.remove(entry.code) != null) {
+				liveCodes.decrementAndGet();
+				expiredCount.increment();
+			}
+		}
+	}
+
+	private static int slot(long tick) {
+		return (int)(tick & (WHEEL_SIZE - 1));
+	}
+
+	private record TempCodeData(TempCodeGrant grant, long expiresAt) {
+	}
+
+	private record ExpiryEntry(String code, long expiresAt) {
+	}
+}
@@ -0,0 +1,81 @@
+package org.sopt.global.auth.oauth2.store;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.sopt.domain.auth.domain.entity.OAuth2TempCode;
+import org.sopt.domain.auth.domain.repository.OAuth2TempCodeRepository;
+import org.sopt.global.auth.jwt.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 테이블 기반 임시 코드 저장소. 여러 인스턴스가 같은 코드를 교환할 수 있다.
+ *
+ * <p>로그인 한 건당 INSERT 1회, DELETE 1회만 발생하며 UPDATE는 없다.
+ * 교환되지 않은 코드는 주기적으로 청크 단위 삭제한다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "oauth2.temp-code.store", havingValue = "jdbc")
+public class JdbcOAuth2TempCodeStore implements OAuth2TempCodeStore {
+
+	private final OAuth2TempCodeRepository tempCodeRepository;
+	private final int cleanupChunkSize;
+
+	public JdbcOAuth2TempCodeStore(OAuth2TempCodeRepository tempCodeRepository,
+		@Value("${oauth2.temp-code.cleanup-chunk-size:500}") int cleanupChunkSize) {
+		this.tempCodeRepository = tempCodeRepository;
+		this.cleanupChunkSize = cleanupChunkSize;
+	}
+
+	@Override
+	@Transactional
+	public void save(String code, TempCodeGrant grant, long expiresAtMillis) {
+		tempCodeRepository.save(OAuth2TempCode.create(code, grant.memberId(), grant.email(), toDateTime(expiresAtMillis)));
+	}
+
+	@Override
+	@Transactional
+	public Optional<TempCodeGrant> consume(String code) {
+		byte[] codeHash = TokenDigest.sha256(code);
+
+		Optional<TempCodeGrant> grant = tempCodeRepository.findActiveByCodeHash(codeHash, LocalDateTime.now())
+			.map(tempCode -> new TempCodeGrant(tempCode.getMemberId(), tempCode.getEmail()));
+		if (grant.isEmpty()) {
+			return Optional.empty();
+		}
+
+		// 삭제에 성공한 요청만 코드를 소비한다 (동시 교환 시 나머지는 0건)
+		if (tempCodeRepository.deleteByCodeHash(codeHash) == 0) {
+			return Optional.empty();
+		}
+		return grant;
+	}
+
+	@Scheduled(fixedRate = 60000)
+	public void cleanupExpiredCodes() {
+		LocalDateTime cutoff = LocalDateTime.now();
+		long totalDeleted = 0;
+		int deleted;
+		do {
+			deleted = tempCodeRepository.deleteExpiredChunk(cutoff, cleanupChunkSize);
+			totalDeleted += deleted;
+		} while (deleted == cleanupChunkSize);
+
+		if (totalDeleted > 0) {
+			log.debug("Cleaned up expired temporary codes: {}", totalDeleted);
+		}
+	}
+
+	private static LocalDateTime toDateTime(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+	}
+}
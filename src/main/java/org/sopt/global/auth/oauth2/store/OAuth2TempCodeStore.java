@@ -0,0 +1,25 @@
+package org.sopt.global.auth.oauth2.store;
+
+import java.util.Optional;
+
+/**
+ * OAuth2 임시 코드 저장소.
+ *
+ * <p>{@code oauth2.temp-code.store} 설정으로 구현체를 선택합니다.</p>
+ * <ul>
+ *     <li>{@code memory} (기본값): 프로세스 메모리, 단일 인스턴스 전용</li>
+ *     <li>{@code jdbc}: DB 테이블, 여러 인스턴스가 코드를 공유</li>
+ * </ul>
+ */
+public interface OAuth2TempCodeStore {
+
+	/**
+	 * @throws org.sopt.domain.auth.exception.AuthException 저장소가 가득 차 새 코드를 받을 수 없는 경우
+	 */
+	void save(String code, TempCodeGrant grant, long expiresAtMillis);
+
+	/**
+	 * 만료되지 않은 코드를 한 번만 소비합니다. 같은 코드로 동시에 호출되어도 하나만 값을 받습니다.
+	 */
+	Optional<TempCodeGrant> consume(String code);
+}
@@ -0,0 +1,11 @@
+package org.sopt.global.auth.oauth2.store;
+
+/**
+ * 임시 코드 교환 시 토큰을 발급할 회원 정보.
+ * 토큰 자체는 교환 시점에 발급하므로 저장소에는 토큰이 남지 않는다.
+ */
+public record TempCodeGrant(
+	Long memberId,
+	String email
+) {
+}
@@ -0,0 +1,64 @@
+package org.sopt.global.auth.ratelimit;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 로그인 시도 제한에 사용할 클라이언트 IP를 구합니다.
+ *
+ * <p>로드 밸런서 뒤에서는 {@link HttpServletRequest#getRemoteAddr()}가 모두 프록시 주소이므로,
+ * 신뢰하는 프록시에서 온 요청에 한해 {@code X-Forwarded-For}를 오른쪽부터 거슬러 올라가
+ * 처음 만나는 신뢰하지 않는 주소를 클라이언트로 봅니다. 클라이언트가 헤더 앞쪽을 위조해도 무시됩니다.</p>
+ */
+@Component
+public class ClientIpResolver {
+
+	private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+	// 호스트 이름이 섞여 들어와도 DNS 조회를 하지 않도록 IP 리터럴만 대역 비교한다
+	private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+
+	private final List<IpAddressMatcher> trustedProxies;
+
+	public ClientIpResolver(LoginRateLimitProperties properties) {
+		this.trustedProxies = properties.getTrustedProxies().stream()
+			.map(IpAddressMatcher::new)
+			.toList();
+	}
+
+	public String resolve(HttpServletRequest request) {
+		String remoteAddr = request.getRemoteAddr();
+		String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+		if (!isTrusted(remoteAddr) || !StringUtils.hasText(forwardedFor)) {
+			return remoteAddr;
+		}
+
+		String[] hops = forwardedFor.split(",");
+		for (int i = hops.length - 1; i >= 0; i--) {
+			String hop = hops[i].trim();
+			if (!hop.isEmpty() && !isTrusted(hop)) {
+				return hop;
+			}
+		}
+		// 모든 홉이 내부 주소라면 가장 앞의 주소가 원래 클라이언트다
+		String first = hops[0].trim();
+		return first.isEmpty() ? remoteAddr : first;
+	}
+
+	private boolean isTrusted(String address) {
+		if (address == null || !IP_LITERAL.matcher(address).matches()) {
+			return false;
+		}
+		for (IpAddressMatcher proxy : trustedProxies) {
+			if (proxy.matches(address)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,45 @@
+package org.sopt.global.auth.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.login-rate-limit")
+public class LoginRateLimitProperties {
+
+	private boolean enabled = true;
+	private long maximumKeys = 100_000;
+	// 같은 계정: 연속 5회, 이후 12초마다 1회
+	private Limit email = new Limit(5, Duration.ofSeconds(12));
+	// 같은 IP: 연속 20회, 이후 1초마다 1회 (NAT 뒤 여러 사용자를 고려해 넉넉하게)
+	private Limit ip = new Limit(20, Duration.ofSeconds(1));
+	// 이 대역에서 들어온 요청만 X-Forwarded-For를 신뢰한다 (로드 밸런서/리버스 프록시)
+	private List<String> trustedProxies = List.of("10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "127.0.0.1/32",
+		"::1/128");
+
+	@Getter
+	@Setter
+	public static class Limit {
+
+		// 연속으로 허용하는 최대 시도 횟수
+		private int burst;
+		// 시도 1회가 다시 허용되기까지 걸리는 시간
+		private Duration refillInterval;
+
+		public Limit() {
+		}
+
+		public Limit(int burst, Duration refillInterval) {
+			this.burst = burst;
+			this.refillInterval = refillInterval;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package org.sopt.global.auth.ratelimit;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.sopt.domain.auth.exception.LoginRateLimitException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시도를 이메일별, 클라이언트 IP별 토큰 버킷으로 제한합니다.
+ *
+ * <p>버킷은 GCRA(Generic Cell Rate Algorithm) 방식으로, 키마다 "다음 시도가 허용되는 이론상 시각" 하나만
+ * {@link AtomicLong}에 저장하고 CAS로 갱신합니다. 락이 없으며 요청당 캐시 조회 2회와 CAS 몇 번이면 끝납니다.
+ * 일정 시간 사용되지 않은 버킷은 가득 찬 버킷과 같으므로 캐시에서 자동으로 제거됩니다.</p>
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+	// 아직 시도가 없는 버킷 (System.nanoTime()은 음수일 수 있어 0을 초기값으로 쓰지 않는다)
+	private static final long EMPTY = Long.MIN_VALUE;
+	// Bucket#tryAcquire의 허용 결과 (거절 시에는 남은 대기 시간을 양수로 반환한다)
+	private static final long ACQUIRED = 0;
+
+	private final boolean enabled;
+	private final Bucket emailBucket;
+	private final Bucket ipBucket;
+	private final LongAdder rejectedByEmail = new LongAdder();
+	private final LongAdder rejectedByIp = new LongAdder();
+
+	@Autowired
+	public LoginRateLimiter(LoginRateLimitProperties properties) {
+		this(properties, System::nanoTime);
+	}
+
+	// 테스트에서 시간을 직접 진행시킬 수 있도록 현재 시각(nanoTime)을 주입받는다
+	LoginRateLimiter(LoginRateLimitProperties properties, LongSupplier nanoClock) {
+		this.enabled = properties.isEnabled();
+		this.emailBucket = new Bucket(properties.getEmail(), properties.getMaximumKeys(), nanoClock);
+		this.ipBucket = new Bucket(properties.getIp(), properties.getMaximumKeys(), nanoClock);
+	}
+
+	/**
+	 * @throws LoginRateLimitException 허용량을 초과한 경우 (TOO_MANY_LOGIN_ATTEMPTS, 다음 시도까지 남은 시간 포함)
+	 */
+	public void acquire(String email, String clientIp) {
+		if (!enabled) {
+			return;
+		}
+		if (clientIp != null) {
+			long waitNanos = ipBucket.tryAcquire(clientIp);
+			if (waitNanos != ACQUIRED) {
+				rejectedByIp.increment();
+				throw new LoginRateLimitException(toRetryAfterSeconds(waitNanos));
+			}
+		}
+		if (email != null) {
+			long waitNanos = emailBucket.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+			if (waitNanos != ACQUIRED) {
+				rejectedByEmail.increment();
+				throw new LoginRateLimitException(toRetryAfterSeconds(waitNanos));
+			}
+		}
+	}
+
+	@Scheduled(fixedRate = 60000)
+	public void logStats() {
+		long byEmail = rejectedByEmail.sumThenReset();
+		long byIp = rejectedByIp.sumThenReset();
+		if (byEmail > 0 || byIp > 0) {
+			log.warn("로그인 시도 제한 - 최근 1분 거절: email={}, ip={}, 추적 중인 키: email={}, ip={}",
+				byEmail, byIp, emailBucket.size(), ipBucket.size());
+		}
+	}
+
+	// Retry-After는 초 단위 정수이므로 올림해서 너무 일찍 재시도하지 않도록 한다
+	private static long toRetryAfterSeconds(long waitNanos) {
+		return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+	}
+
+	private static final class Bucket {
+
+		private final long intervalNanos;
+		private final long toleranceNanos;
+		private final LongSupplier nanoClock;
+		private final Cache<String, AtomicLong> arrivals;
+
+		private Bucket(LoginRateLimitProperties.Limit limit, long maximumKeys, LongSupplier nanoClock) {
+			this.nanoClock = nanoClock;
+			this.intervalNanos = limit.getRefillInterval().toNanos();
+			this.toleranceNanos = intervalNanos * (limit.getBurst() - 1);
+			// 버킷이 가득 차는 데 걸리는 시간 동안 접근이 없으면 새 버킷과 같으므로 버린다
+			this.arrivals = Caffeine.newBuilder()
+				.maximumSize(maximumKeys)
+				.expireAfterAccess(Duration.ofNanos(intervalNanos * limit.getBurst()))
+				.build();
+		}
+
+		/**
+		 * @return 허용되면 {@link #ACQUIRED}, 거절되면 이론상 도착 시각이 허용 범위 안으로 들어오기까지 남은 시간(ns)
+		 */
+		private long tryAcquire(String key) {
+			AtomicLong theoreticalArrival = arrivals.get(key, k -> new AtomicLong(EMPTY));
+			long now = nanoClock.getAsLong();
+			while (true) {
+				long current = theoreticalArrival.get();
+				long base = current == EMPTY ? now : Math.max(current, now);
+				if (base - now > toleranceNanos) {
+					return base - now - toleranceNanos;
+				}
+				if (theoreticalArrival.compareAndSet(current, base + intervalNanos)) {
+					return ACQUIRED;
+				}
+			}
+		}
+
+		private long size() {
+			return arrivals.estimatedSize();
+		}
+	}
+}
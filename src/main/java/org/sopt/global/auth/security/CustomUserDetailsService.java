@@ -1,11 +1,22 @@
 package org.sopt.global.auth.security;
 
+import java.time.Instant;
+
+import org.sopt.domain.member.application.event.MemberDeletedEvent;
+import org.sopt.domain.member.application.event.MemberPasswordChangedEvent;
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.domain.member.domain.repository.MemberRepository;
+import org.sopt.global.auth.jwt.AccessTokenRevocationList;
+import org.sopt.global.config.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,8 +25,10 @@ import lombok.RequiredArgsConstructor;
 public class CustomUserDetailsService implements UserDetailsService {
 
 	private final MemberRepository memberRepository;
+	private final AccessTokenRevocationList accessTokenRevocationList;
 
 	@Override
+	@Cacheable(value = CacheConfig.PRINCIPALS, key = "'email:' + #email")
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 		Member member = memberRepository.findByEmail(email)
 			.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
@@ -27,6 +40,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 		);
 	}
 
+	@Cacheable(value = CacheConfig.PRINCIPALS, key = "'id:' + #id")
 	public UserDetails loadUserById(Long id) throws UsernameNotFoundException {
 		Member member = memberRepository.findById(id)
 			.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + id));
@@ -37,4 +51,26 @@ public class CustomUserDetailsService implements UserDetailsService {
 			member.getPassword()
 		);
 	}
+
+	// 커밋 전에 무효화하면 동시 요청이 아직 남아 있는 회원을 다시 읽어 캐시에 올릴 수 있고,
+	// 탈퇴가 롤백되어도 토큰 폐기는 되돌릴 수 없으므로 둘 다 커밋 이후에 수행한다
+	@TransactionalEventListener
+	@Caching(evict = {
+		@CacheEvict(value = CacheConfig.PRINCIPALS, key = "'id:' + #event.memberId()"),
+		@CacheEvict(value = CacheConfig.PRINCIPALS, key = "'email:' + #event.email()")
+	})
+	public void onMemberDeleted(MemberDeletedEvent event) {
+		// 탈퇴 커밋 이전에 발급된 Access Token은 만료 전이라도 더 이상 인증되지 않는다
+		accessTokenRevocationList.revokeAllIssuedBefore(event.memberId(), Instant.now());
+	}
+
+	// 비밀번호 해시 재생성은 트랜잭션 밖에서 커밋된 뒤 발행되므로 바로 무효화한다
+	@EventListener
+	@Caching(evict = {
+		@CacheEvict(value = CacheConfig.PRINCIPALS, key = "'id:' + #event.memberId()"),
+		@CacheEvict(value = CacheConfig.PRINCIPALS, key = "'email:' + #event.email()")
+	})
+	public void onMemberPasswordChanged(MemberPasswordChangedEvent event) {
+		// 캐시 무효화만 수행
+	}
 }
@@ -0,0 +1,165 @@
+package org.sopt.global.auth.security;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.sopt.domain.auth.exception.AuthException;
+import org.sopt.global.response.error.ErrorCode;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 계산(bcrypt)을 전용 스레드 풀에서 실행합니다.
+ *
+ * <p>대기열이 가득 차면 요청 스레드를 붙잡아 두지 않고 즉시 {@link ErrorCode#AUTH_SERVER_BUSY}로 거절하므로,
+ * 로그인 폭주가 게시글 조회 등 다른 요청의 CPU를 잠식하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final int queueCapacity;
+
+	private final LongAdder completedCount = new LongAdder();
+	private final LongAdder totalHashNanos = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final LongAdder rejectedCount = new LongAdder();
+
+	public PasswordHasher(PasswordEncoder passwordEncoder,
+		@Value("${security.password-hash.pool-size:0}") int poolSize,
+		@Value("${security.password-hash.queue-capacity:64}") int queueCapacity) {
+		this.passwordEncoder = passwordEncoder;
+		this.queueCapacity = queueCapacity;
+		// 기본값은 코어의 절반: 나머지 코어는 일반 요청 처리에 남겨둔다
+		int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), new HasherThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	public String encode(String rawPassword) {
+		return execute(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * 저장된 해시가 현재 설정(strength)보다 약하면 true
+	 */
+	public boolean needsUpgrade(String encodedPassword) {
+		return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * 요청 스레드를 기다리게 하지 않고 백그라운드에서 해시를 계산합니다.
+	 * 대기열이 절반 이상 차 있으면 로그인/가입 요청에 자리를 양보하고 빈 결과를 반환합니다 (다음 기회에 다시 시도).
+	 */
+	public CompletableFuture<Optional<String>> encodeInBackground(String rawPassword) {
+		if (executor.getQueue().size() * 2 >= queueCapacity) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+		try {
+			return CompletableFuture.supplyAsync(() -> Optional.of(timed(() -> passwordEncoder.encode(rawPassword))),
+				executor);
+		} catch (RejectedExecutionException e) {
+			rejectedCount.increment();
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount.sum();
+	}
+
+	@Scheduled(fixedRate = 60000)
+	public void logStats() {
+		long completed = completedCount.sum();
+		double avgHashMillis = completed == 0 ? 0 : totalHashNanos.sum() / 1_000_000.0 / completed;
+		double avgWaitMillis = completed == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / completed;
+		log.info("Password hash pool - active: {}/{}, queue: {}, completed: {}, rejected: {}, "
+				+ "avg hash: {}ms, avg wait: {}ms",
+			executor.getActiveCount(), executor.getMaximumPoolSize(), executor.getQueue().size(), completed,
+			rejectedCount.sum(), String.format("%.2f", avgHashMillis), String.format("%.2f", avgWaitMillis));
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private <T> T execute(Supplier<T> task) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				totalWaitNanos.add(System.nanoTime() - submittedAt);
+				return timed(task);
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCount.increment();
+			log.warn("비밀번호 해시 대기열 초과로 요청 거절: queue={}", executor.getQueue().size());
+			throw new AuthException(ErrorCode.AUTH_SERVER_BUSY);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new AuthException(ErrorCode.AUTH_SERVER_BUSY);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private <T> T timed(Supplier<T> task) {
+		long startedAt = System.nanoTime();
+		try {
+			return task.get();
+		} finally {
+			totalHashNanos.add(System.nanoTime() - startedAt);
+			completedCount.increment();
+		}
+	}
+
+	private static final class HasherThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package org.sopt.global.auth.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록.
+ * SecurityConfig의 permitAll 규칙과 JWT 필터의 생략 조건이 같은 목록을 사용한다.
+ */
+public final class PublicRoutes {
+
+	private static final RequestMatcher[] MATCHERS = {
+		AntPathRequestMatcher.antMatcher("/auth/**"),
+		AntPathRequestMatcher.antMatcher("/oauth2/**"),
+		AntPathRequestMatcher.antMatcher("/login/oauth2/**"),
+		AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/members"),
+		AntPathRequestMatcher.antMatcher("/swagger-ui/**"),
+		AntPathRequestMatcher.antMatcher("/v3/api-docs/**"),
+		AntPathRequestMatcher.antMatcher("/api-docs/**")
+	};
+
+	private static final RequestMatcher ANY = new OrRequestMatcher(MATCHERS);
+
+	private PublicRoutes() {
+	}
+
+	public static RequestMatcher[] matchers() {
+		return MATCHERS.clone();
+	}
+
+	public static boolean matches(HttpServletRequest request) {
+		return ANY.matches(request);
+	}
+}
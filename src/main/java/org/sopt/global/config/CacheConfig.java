@@ -1,7 +1,11 @@
 package org.sopt.global.config;
 
 import java.time.Duration;
+import java.time.Instant;
 
+import org.sopt.global.auth.jwt.JwtClaims;
+import org.sopt.global.auth.jwt.JwtProperties;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -9,13 +13,23 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+	public static final String VERIFIED_TOKENS = "verifiedTokens";
+	public static final String PRINCIPALS = "principals";
+	public static final String LISTING_COUNTS = "listingCounts";
+	public static final String ARTICLE_FEED = "articleFeed";
+
 	@Bean
-	public CacheManager cacheManager() {
+	public CacheManager cacheManager(JwtProperties jwtProperties,
+		@Value("${cache.principals.maximum-size:10000}") long principalsMaximumSize,
+		@Value("${cache.principals.ttl-seconds:600}") long principalsTtlSeconds,
+		@Value("${cache.listing-counts.ttl-seconds:30}") long listingCountsTtlSeconds,
+		@Value("${cache.article-feed.ttl-seconds:60}") long articleFeedTtlSeconds) {
 		CaffeineCacheManager cacheManager = new CaffeineCacheManager("articles");
 
 		cacheManager.setCaffeine(Caffeine.newBuilder()
@@ -23,6 +37,79 @@ public class CacheConfig {
 			.expireAfterWrite(Duration.ofMinutes(5))  // 5분 후 만료
 			.recordStats());  // 통계 수집 활성화
 
+		// 인증 정보: 회원 탈퇴/해시 재생성 시 무효화되며, TTL은 다른 인스턴스에서 바뀐 정보가 늦게 반영되는 최대 시간이다
+		cacheManager.registerCustomCache(PRINCIPALS, Caffeine.newBuilder()
+			.maximumSize(principalsMaximumSize)
+			.expireAfterWrite(Duration.ofSeconds(principalsTtlSeconds))
+			.recordStats()
+			.build());
+
+		// 목록 전체 건수: 검색어별 키가 쌓일 수 있으므로 크기를 제한하고, TTL이 허용하는 최대 지연이다
+		cacheManager.registerCustomCache(LISTING_COUNTS, Caffeine.newBuilder()
+			.maximumSize(1_000)
+			.expireAfterWrite(Duration.ofSeconds(listingCountsTtlSeconds))
+			.recordStats()
+			.build());
+
+		// 게시글 피드 앞부분: 작성 시 갱신되지만 만료 시각은 최초 적재 기준이므로, 다른 인스턴스의 작성이 늦게 보이는 최대 시간이다
+		cacheManager.registerCustomCache(ARTICLE_FEED, Caffeine.newBuilder()
+			.maximumSize(1)
+			.expireAfter(new LoadedAtExpiry(Duration.ofSeconds(articleFeedTtlSeconds)))
+			.recordStats()
+			.build());
+
+		JwtProperties.VerifiedCache verifiedCache = jwtProperties.getVerifiedCache();
+		if (verifiedCache.isEnabled()) {
+			cacheManager.registerCustomCache(VERIFIED_TOKENS, Caffeine.newBuilder()
+				.maximumSize(verifiedCache.getMaximumSize())
+				.expireAfter(new TokenExpiry())  // 토큰 자체의 exp 시각에 만료
+				.recordStats()
+				.build());
+		}
+
 		return cacheManager;
 	}
+
+	private static class LoadedAtExpiry implements Expiry<Object, Object> {
+
+		private final long ttlNanos;
+
+		private LoadedAtExpiry(Duration ttl) {
+			this.ttlNanos = ttl.toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(Object key, Object value, long currentTime) {
+			return ttlNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+	private static class TokenExpiry implements Expiry<Object, Object> {
+
+		@Override
+		public long expireAfterCreate(Object key, Object value, long currentTime) {
+			Instant expiresAt = ((JwtClaims)value).expiresAt();
+			return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
 }
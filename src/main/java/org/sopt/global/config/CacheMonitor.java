@@ -31,13 +31,13 @@ public class CacheMonitor {
 				CacheStats stats = nativeCache.stats();
 
 				log.info("Cache '{}' statistics - " +
-						"Hit Rate: {:.2f}%, " +
+						"Hit Rate: {}%, " +
 						"Hits: {}, " +
 						"Misses: {}, " +
 						"Evictions: {}, " +
 						"Size: {}",
 					cacheName,
-					stats.hitRate() * 100,
+					String.format("%.2f", stats.hitRate() * 100),
 					stats.hitCount(),
 					stats.missCount(),
 					stats.evictionCount(),
@@ -1,15 +1,64 @@
 package org.sopt.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
 
+	private static final int DEFAULT_STRENGTH = 10;
+	private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+	@Value("${security.password-hash.calibrate:false}")
+	private boolean calibrate;
+
+	@Value("${security.password-hash.target-millis:80}")
+	private long targetMillis;
+
+	@Value("${security.password-hash.min-strength:10}")
+	private int minStrength;
+
+	@Value("${security.password-hash.max-strength:14}")
+	private int maxStrength;
+
 	@Bean
 	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+		int strength = calibrate ? calibrateStrength() : DEFAULT_STRENGTH;
+		return new BCryptPasswordEncoder(strength);
+	}
+
+	/**
+	 * 현재 하드웨어에서 목표 시간 이내에 해시를 계산할 수 있는 가장 높은 bcrypt strength를 찾는다.
+	 * strength가 1 오를 때마다 비용이 두 배가 되므로, 목표를 넘는 첫 단계에서 멈춘다.
+	 */
+	private int calibrateStrength() {
+		// JIT 워밍업: 첫 측정값이 과대평가되지 않도록 한 번 버린다
+		new BCryptPasswordEncoder(minStrength).encode(CALIBRATION_PASSWORD);
+
+		int chosen = minStrength;
+		for (int strength = minStrength; strength <= maxStrength; strength++) {
+			long elapsedMillis = measure(strength);
+			log.info("bcrypt 보정 측정: strength={}, {}ms", strength, elapsedMillis);
+			if (elapsedMillis > targetMillis) {
+				break;
+			}
+			chosen = strength;
+		}
+
+		log.info("bcrypt strength 보정 완료: target={}ms, strength={}", targetMillis, chosen);
+		return chosen;
+	}
+
+	private long measure(int strength) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+		long startedAt = System.nanoTime();
+		encoder.encode(CALIBRATION_PASSWORD);
+		return (System.nanoTime() - startedAt) / 1_000_000;
 	}
 }
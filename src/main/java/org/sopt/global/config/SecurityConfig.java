@@ -2,9 +2,9 @@ package org.sopt.global.config;
 
 import org.sopt.global.auth.exception.JwtAuthenticationEntryPoint;
 import org.sopt.global.auth.jwt.JwtAuthenticationFilter;
+import org.sopt.global.auth.security.PublicRoutes;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -33,10 +33,7 @@ public class SecurityConfig {
 				.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 			)
 			.authorizeHttpRequests(auth -> auth
-				.requestMatchers("/auth/**").permitAll()
-				.requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
-				.requestMatchers(HttpMethod.POST, "/members").permitAll()
-				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**").permitAll()
+				.requestMatchers(PublicRoutes.matchers()).permitAll()
 				.requestMatchers("/members/**", "/articles/**").authenticated()
 				.anyRequest().denyAll()
 			)
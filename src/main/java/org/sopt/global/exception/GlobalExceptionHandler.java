@@ -6,9 +6,11 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sopt.domain.auth.exception.LoginRateLimitException;
 import org.sopt.global.response.CommonApiResponse;
 import org.sopt.global.response.error.ErrorCode;
 import org.sopt.global.response.error.ErrorType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -25,14 +27,33 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 public class GlobalExceptionHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+	private static final String RETRY_AFTER_SECONDS = "1";
 
 	// 커스텀 예외 처리
 	@ExceptionHandler(BaseException.class)
 	public ResponseEntity<CommonApiResponse<Void>> handleBaseException(BaseException e) {
 		ErrorType errorType = e.getErrorCode();
 		log.warn("Business exception occurred: code={}, message={}", errorType.getCode(), errorType.getMessage());
+		// 과부하로 인한 일시적 거절은 재시도 가능함을 알린다
+		if (errorType.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+			return ResponseEntity
+				.status(errorType.getStatus())
+				.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+				.body(CommonApiResponse.fail(errorType));
+		}
+		return ResponseEntity
+			.status(errorType.getStatus())
+			.body(CommonApiResponse.fail(errorType));
+	}
+
+	// 로그인 시도 제한: 버킷이 다시 허용하는 시각까지 남은 시간을 Retry-After로 알린다
+	@ExceptionHandler(LoginRateLimitException.class)
+	public ResponseEntity<CommonApiResponse<Void>> handleLoginRateLimitException(LoginRateLimitException e) {
+		ErrorType errorType = e.getErrorCode();
+		log.warn("Login rate limited: code={}, retryAfter={}s", errorType.getCode(), e.getRetryAfterSeconds());
 		return ResponseEntity
 			.status(errorType.getStatus())
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
 			.body(CommonApiResponse.fail(errorType));
 	}
 
@@ -0,0 +1,23 @@
+package org.sopt.global.response;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+/**
+ * COUNT 쿼리 없이 조회한 Slice에 캐시된 전체 건수를 붙여 Page로 응답하기 위한 헬퍼.
+ * 전체 건수는 캐시 TTL만큼 늦을 수 있으므로, 현재 조회 결과와 모순되지 않도록 하한을 보정한다.
+ */
+public final class ApproximatePage {
+
+	private ApproximatePage() {
+	}
+
+	public static <T> Page<T> of(Slice<T> slice, LongSupplier cachedTotal) {
+		long seen = (long)slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+		long lowerBound = slice.hasNext() ? seen + 1 : seen;
+		return new PageImpl<>(slice.getContent(), slice.getPageable(), Math.max(cachedTotal.getAsLong(), lowerBound));
+	}
+}
@@ -15,6 +15,10 @@ public enum ErrorCode implements ErrorType {
 	TOKEN_EXPIRED("A404", "만료된 토큰입니다", 401),
 	TOKEN_BLACKLISTED("A405", "블랙리스트 처리된 토큰입니다", 401),
 	REFRESH_TOKEN_NOT_FOUND("A406", "Refresh Token을 찾을 수 없습니다", 404),
+	SESSION_NOT_FOUND("A407", "로그인 세션을 찾을 수 없습니다", 404),
+	OAUTH2_TEMP_CODE_CAPACITY_EXCEEDED("A408", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요", 503),
+	AUTH_SERVER_BUSY("A409", "인증 요청이 많습니다. 잠시 후 다시 시도해주세요", 503),
+	TOO_MANY_LOGIN_ATTEMPTS("A410", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요", 429),
 
 	// 회원 관련 에러
 	MEMBER_NOT_FOUND("M401", "회원을 찾을 수 없습니다", 404),
@@ -23,9 +27,10 @@ public enum ErrorCode implements ErrorType {
 	BIRTH_DATE_FUTURE("M405", "생년월일은 과거 날짜여야 합니다", 400),
 	AGE_UNDER_20("M406", "20세 미만은 회원 가입이 불가능합니다", 400),
 
-	// 게시글 관련 에러
-	ARTICLE_NOT_FOUND("A401", "게시글을 찾을 수 없습니다", 404),
-	DUPLICATE_ARTICLE_TITLE("A403", "이미 존재하는 게시글 제목입니다", 400),
+	// 게시글 관련 에러 (인증 에러와 구분되도록 P 접두어를 사용한다)
+	ARTICLE_NOT_FOUND("P401", "게시글을 찾을 수 없습니다", 404),
+	DUPLICATE_ARTICLE_TITLE("P403", "이미 존재하는 게시글 제목입니다", 400),
+	ARTICLE_INDEX_NOT_READY("P404", "게시글 색인을 준비 중입니다. 잠시 후 다시 시도해주세요", 503),
 
 	// 댓글 관련 에러
 	COMMENT_NOT_FOUND("C401", "댓글을 찾을 수 없습니다", 404),
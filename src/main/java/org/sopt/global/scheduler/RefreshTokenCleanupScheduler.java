@@ -1,35 +1,136 @@
 package org.sopt.global.scheduler;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
+import org.sopt.domain.auth.domain.repository.RotatedRefreshTokenRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 만료된 Refresh Token과 교체된 토큰 해시를 청크 단위로 삭제합니다.
+ *
+ * <p>{@code @Scheduled} 스레드는 OAuth2 임시 코드 휠, 토큰 폐기 목록 정리, 캐시 모니터 등과 공유되므로
+ * 작업 시작만 알리고 바로 반환합니다. 청크 삭제는 전용 스레드에서 실행되고, 청크 사이의 휴식은
+ * 스레드를 재우는 대신 다음 청크를 지연 예약하는 방식으로 처리합니다.</p>
+ */
 @Slf4j
 @Component
 @EnableScheduling
-@RequiredArgsConstructor
-public class RefreshTokenCleanupScheduler {
+public class RefreshTokenCleanupScheduler implements DisposableBean {
 
-	private final RefreshTokenRepository refreshTokenRepository;
+	private final List<CleanupTarget> targets;
+	private final int chunkSize;
+	private final long pauseMillis;
+	private final ScheduledExecutorService executor;
+	private final AtomicBoolean running = new AtomicBoolean();
 
+	public RefreshTokenCleanupScheduler(RefreshTokenRepository refreshTokenRepository,
+		RotatedRefreshTokenRepository rotatedRefreshTokenRepository,
+		@Value("${refresh-token.cleanup.chunk-size:1000}") int chunkSize,
+		@Value("${refresh-token.cleanup.pause-millis:200}") long pauseMillis) {
+		this.targets = List.of(
+			new CleanupTarget("refresh_tokens", refreshTokenRepository::deleteExpiredChunk),
+			new CleanupTarget("rotated_refresh_tokens", rotatedRefreshTokenRepository::deleteExpiredChunk));
+		this.chunkSize = chunkSize;
+		this.pauseMillis = pauseMillis;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "refresh-token-cleanup");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 청크마다 트랜잭션이 커밋되므로 중간에 중단되어도 다음 실행에서 남은 행부터 이어서 삭제합니다.
+	 */
 	@Scheduled(cron = "0 0 3 * * ?")
-	@Transactional
 	public void cleanupExpiredTokens() {
-		LocalDateTime now = LocalDateTime.now();
-		log.info("만료된 Refresh Token 정리 작업 시작: {}", now);
-
-		try {
-			refreshTokenRepository.deleteByExpiryDateBefore(now);
-			log.info("만료된 Refresh Token 정리 작업 완료: {}", now);
-		} catch (Exception e) {
-			log.error("만료된 Refresh Token 정리 작업 실패: {}", e.getMessage(), e);
+		if (!running.compareAndSet(false, true)) {
+			log.warn("이전 Refresh Token 정리 작업이 아직 진행 중이므로 이번 실행은 건너뜀");
+			return;
+		}
+
+		CleanupRun run = new CleanupRun(LocalDateTime.now());
+		log.info("만료된 Refresh Token 정리 작업 시작: cutoff={}, chunkSize={}", run.cutoff, chunkSize);
+		run.schedule(0);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	@FunctionalInterface
+	private interface ChunkDeleter {
+
+		int deleteExpiredChunk(LocalDateTime cutoff, int limit);
+	}
+
+	private record CleanupTarget(String table, ChunkDeleter deleter) {
+	}
+
+	private final class CleanupRun {
+
+		private final LocalDateTime cutoff;
+		private final long startedAt = System.nanoTime();
+		private int targetIndex;
+		private long totalDeleted;
+		private int chunks;
+
+		private CleanupRun(LocalDateTime cutoff) {
+			this.cutoff = cutoff;
+		}
+
+		private void schedule(long delayMillis) {
+			try {
+				executor.schedule(this::deleteChunk, delayMillis, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				running.set(false);
+				log.warn("만료된 Refresh Token 정리 작업 중단: deleted={}, chunks={}", totalDeleted, chunks);
+			}
+		}
+
+		private void deleteChunk() {
+			try {
+				long chunkStartedAt = System.nanoTime();
+				CleanupTarget target = targets.get(targetIndex);
+				int deleted = target.deleter().deleteExpiredChunk(cutoff, chunkSize);
+				totalDeleted += deleted;
+				chunks++;
+				log.debug("만료된 Refresh Token 청크 삭제: table={}, chunk={}, deleted={}, took={}ms",
+					target.table(), chunks, deleted, (System.nanoTime() - chunkStartedAt) / 1_000_000);
+
+				// 다른 쓰기 작업이 끼어들 수 있도록 청크 사이에 잠시 쉰다
+				if (deleted == chunkSize) {
+					schedule(pauseMillis);
+					return;
+				}
+				// 현재 테이블을 다 비웠으면 다음 테이블로 넘어간다
+				if (++targetIndex < targets.size()) {
+					schedule(pauseMillis);
+					return;
+				}
+
+				running.set(false);
+				log.info("만료된 Refresh Token 정리 작업 완료: deleted={}, chunks={}, took={}ms",
+					totalDeleted, chunks, (System.nanoTime() - startedAt) / 1_000_000);
+			} catch (Exception e) {
+				running.set(false);
+				log.error("만료된 Refresh Token 정리 작업 실패: deleted={}, chunks={}, {}", totalDeleted, chunks,
+					e.getMessage(), e);
+			}
 		}
 	}
 }
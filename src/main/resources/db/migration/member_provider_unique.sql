@@ -0,0 +1,15 @@
+-- member (provider, provider_id) unique 제약 추가 (MySQL)
+-- 새 버전 배포 전에 한 번 실행한다.
+
+-- 동시 최초 로그인으로 이미 중복 가입된 소셜 계정이 있는지 먼저 확인하고, 있으면 정리한 뒤 진행한다
+SELECT provider, provider_id, COUNT(*)
+FROM member
+WHERE provider_id IS NOT NULL
+GROUP BY provider, provider_id
+HAVING COUNT(*) > 1;
+
+-- 로컬 회원은 provider_id가 NULL이므로 제약에 걸리지 않는다
+ALTER TABLE member ADD CONSTRAINT uk_member_provider_provider_id UNIQUE (provider, provider_id);
+
+-- unique 제약의 인덱스가 같은 컬럼 조회를 대신한다
+ALTER TABLE member DROP INDEX idx_member_provider_providerid;
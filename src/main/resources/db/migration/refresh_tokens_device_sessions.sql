@@ -0,0 +1,14 @@
+-- refresh_tokens 기기별 세션 전환 (MySQL)
+-- refresh_tokens_token_hash.sql 이후, 새 버전 배포 전에 한 번 실행한다.
+
+-- 토큰 회전 후 남아 있던 블랙리스트 행은 (member_id, device_id) unique 제약과 충돌하므로 정리
+DELETE FROM refresh_tokens WHERE is_blacklisted = true;
+
+-- 기존 세션은 모두 기본 기기의 세션으로 간주
+ALTER TABLE refresh_tokens ADD COLUMN device_id VARCHAR(64) NOT NULL DEFAULT 'default';
+ALTER TABLE refresh_tokens ALTER COLUMN device_id DROP DEFAULT;
+
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_member_device UNIQUE (member_id, device_id);
+
+-- unique 제약의 선두 컬럼(member_id)이 회원별 조회를 대신한다
+ALTER TABLE refresh_tokens DROP INDEX idx_member_id;
@@ -0,0 +1,14 @@
+-- refresh_tokens.token(VARCHAR 512) -> token_hash(BINARY 32) 전환 (MySQL)
+-- 새 버전 배포 전에 한 번 실행한다. 기존 토큰은 SHA-256 해시로 변환되므로 재로그인 없이 계속 사용할 수 있다.
+-- ddl-auto: update는 기존 token 컬럼(NOT NULL)을 삭제하지 않으므로 이 스크립트 없이 배포하면 토큰 저장이 실패한다.
+
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BINARY(32) NULL;
+
+UPDATE refresh_tokens SET token_hash = UNHEX(SHA2(token, 256)) WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens MODIFY COLUMN token_hash BINARY(32) NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash);
+
+-- token 컬럼의 unique 인덱스는 컬럼과 함께 삭제된다
+ALTER TABLE refresh_tokens DROP INDEX idx_token;
+ALTER TABLE refresh_tokens DROP COLUMN token;
@@ -0,0 +1,63 @@
+package org.sopt.config;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 해시 계산 시점마다 커넥션 풀의 사용 중인 커넥션 수를 기록하는 테스트용 PasswordEncoder
+ */
+public class ConnectionProbingPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate = new BCryptPasswordEncoder(4);
+	private final DataSource dataSource;
+	private final List<Integer> activeConnections = new CopyOnWriteArrayList<>();
+
+	public ConnectionProbingPasswordEncoder(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		record();
+		return delegate.encode(rawPassword);
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		record();
+		return delegate.matches(rawPassword, encodedPassword);
+	}
+
+	public String encodeWithoutProbe(CharSequence rawPassword) {
+		return delegate.encode(rawPassword);
+	}
+
+	public List<Integer> getActiveConnections() {
+		return activeConnections;
+	}
+
+	public void reset() {
+		activeConnections.clear();
+	}
+
+	private void record() {
+		activeConnections.add(poolMXBean().getActiveConnections());
+	}
+
+	private HikariPoolMXBean poolMXBean() {
+		try {
+			return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package org.sopt.domain.article.application.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sopt.domain.article.application.dto.ArticleSummaryResponse;
+import org.sopt.domain.article.application.event.ArticleCreatedEvent;
+import org.sopt.domain.article.domain.entity.Tag;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
+import org.sopt.domain.article.domain.repository.ArticleRepository;
+import org.sopt.domain.article.domain.repository.ArticleSummary;
+import org.sopt.global.config.CacheConfig;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleFeedCacheTest {
+
+	private static final int PAGES = 2;
+	private static final Pageable WINDOW = PageRequest.of(0, PAGES * ArticleFeedCache.PAGE_SIZE,
+		ArticleFeedCache.NEWEST_FIRST);
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+	@Mock
+	private ArticleRepository articleRepository;
+
+	private ArticleFeedCache feedCache;
+
+	@BeforeEach
+	void setUp() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache(CacheConfig.ARTICLE_FEED, Caffeine.newBuilder().recordStats().build());
+		feedCache = new ArticleFeedCache(articleRepository, cacheManager, PAGES);
+	}
+
+	@Test
+	@DisplayName("캐시 대상 - 기본 크기, 정렬 없음, 앞쪽 페이지만")
+	void covers() {
+		assertThat(feedCache.covers(PageRequest.of(0, ArticleFeedCache.PAGE_SIZE))).isTrue();
+		assertThat(feedCache.covers(PageRequest.of(PAGES - 1, ArticleFeedCache.PAGE_SIZE))).isTrue();
+		assertThat(feedCache.covers(PageRequest.of(PAGES, ArticleFeedCache.PAGE_SIZE))).isFalse();
+		assertThat(feedCache.covers(PageRequest.of(0, 10))).isFalse();
+		assertThat(feedCache.covers(PageRequest.of(0, ArticleFeedCache.PAGE_SIZE, Sort.by("title")))).isFalse();
+	}
+
+	@Test
+	@DisplayName("피드 조회 - 한 번 적재한 구간을 페이지별로 잘라 응답")
+	void getPage_LoadsOnce() {
+		// given
+		given(articleRepository.findAllSummaries(WINDOW)).willReturn(window(25, 1, false));
+
+		// when
+		Slice<ArticleSummaryResponse> first = feedCache.getPage(PageRequest.of(0, ArticleFeedCache.PAGE_SIZE));
+		Slice<ArticleSummaryResponse> second = feedCache.getPage(PageRequest.of(1, ArticleFeedCache.PAGE_SIZE));
+
+		// then
+		assertThat(first.getContent()).hasSize(20);
+		assertThat(first.getContent().get(0).id()).isEqualTo(25L);
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.getContent()).extracting(ArticleSummaryResponse::id).containsExactly(5L, 4L, 3L, 2L, 1L);
+		assertThat(second.hasNext()).isFalse();
+		verify(articleRepository, times(1)).findAllSummaries(WINDOW);
+	}
+
+	@Test
+	@DisplayName("게시글 작성 - 다시 조회하지 않고 맨 앞에 넣고 끝을 밀어냄")
+	void onArticleCreated_PrependsAndShifts() {
+		// given
+		given(articleRepository.findAllSummaries(WINDOW)).willReturn(window(40, 1, false));
+		feedCache.getPage(PageRequest.of(0, ArticleFeedCache.PAGE_SIZE));
+
+		// when
+		feedCache.onArticleCreated(created(41L));
+
+		// then
+		Slice<ArticleSummaryResponse> first = feedCache.getPage(PageRequest.of(0, ArticleFeedCache.PAGE_SIZE));
+		Slice<ArticleSummaryResponse> last = feedCache.getPage(PageRequest.of(1, ArticleFeedCache.PAGE_SIZE));
+		assertThat(first.getContent().get(0).id()).isEqualTo(41L);
+		assertThat(last.getContent()).hasSize(20);
+		assertThat(last.getContent().get(19).id()).isEqualTo(2L);
+		assertThat(last.hasNext()).isTrue();
+		verify(articleRepository, times(1)).findAllSummaries(WINDOW);
+	}
+
+	@Test
+	@DisplayName("게시글 작성 - 이미 적재된 게시글이면 중복으로 넣지 않음")
+	void onArticleCreated_AlreadyLoaded() {
+		// given
+		given(articleRepository.findAllSummaries(WINDOW)).willReturn(window(3, 1, false));
+		feedCache.getPage(PageRequest.of(0, ArticleFeedCache.PAGE_SIZE));
+
+		// when
+		feedCache.onArticleCreated(created(3L));
+
+		// then
+		assertThat(feedCache.getPage(PageRequest.of(0, ArticleFeedCache.PAGE_SIZE)).getContent())
+			.extracting(ArticleSummaryResponse::id).containsExactly(3L, 2L, 1L);
+	}
+
+	@Test
+	@DisplayName("게시글 작성 - 캐시가 비어 있으면 적재하지 않음")
+	void onArticleCreated_EmptyCache() {
+		// when
+		feedCache.onArticleCreated(created(1L));
+
+		// then
+		verifyNoInteractions(articleRepository);
+	}
+
+	private static Slice<ArticleSummary> window(long newestId, long oldestId, boolean hasNext) {
+		List<ArticleSummary> summaries = LongStream.rangeClosed(oldestId, newestId)
+			.map(id -> newestId - id + oldestId)
+			.mapToObj(ArticleFeedCacheTest::summary)
+			.toList();
+		return new SliceImpl<>(summaries, WINDOW, hasNext);
+	}
+
+	private static ArticleSummary summary(long id) {
+		return new ArticleSummary(id, 1L, "Author", "Article " + id, "content", Tag.CS, CREATED_AT.plusMinutes(id),
+			CREATED_AT.plusMinutes(id));
+	}
+
+	private static ArticleCreatedEvent created(long id) {
+		ArticleSummary summary = summary(id);
+		return new ArticleCreatedEvent(
+			new ArticleIndexRow(id, summary.title(), summary.authorName(), summary.tag(), summary.createdAt()),
+			summary);
+	}
+}
@@ -0,0 +1,98 @@
+package org.sopt.domain.article.application.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.domain.article.domain.entity.Tag;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
+
+class ArticleFacetIndexTest {
+
+	private ArticleFacetIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ArticleFacetIndex();
+		index.add(row(1L, Tag.CS, LocalDate.of(2024, 1, 1)));
+		index.add(row(2L, Tag.SPRING, LocalDate.of(2024, 1, 1)));
+		index.add(row(3L, Tag.SPRING, LocalDate.of(2024, 1, 2)));
+		index.add(row(4L, Tag.DB, LocalDate.of(2024, 1, 3)));
+		index.add(row(5L, Tag.SPRING, LocalDate.of(2024, 1, 3)));
+	}
+
+	@Test
+	@DisplayName("태그 필터 - 최신순 ID와 전체 태그별 건수")
+	void select_ByTag() {
+		// when
+		ArticleFacetIndex.Selection selection = index.select(Tag.SPRING, null, null, null);
+
+		// then
+		assertThat(selection.total()).isEqualTo(3);
+		assertThat(selection.newestIds(0, 10)).containsExactly(5L, 3L, 2L);
+		assertThat(selection.newestIds(1, 1)).containsExactly(3L);
+		assertThat(selection.tagCounts()).containsEntry(Tag.CS, 1L).containsEntry(Tag.SPRING, 3L)
+			.containsEntry(Tag.DB, 1L).containsEntry(Tag.ETC, 0L);
+	}
+
+	@Test
+	@DisplayName("기간 필터 - 양 끝 날짜 포함, 태그별 건수도 기간 안에서 계산")
+	void select_ByDateRange() {
+		// when
+		ArticleFacetIndex.Selection selection = index.select(null, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3),
+			null);
+
+		// then
+		assertThat(selection.newestIds(0, 10)).containsExactly(5L, 4L, 3L);
+		assertThat(selection.tagCounts()).containsEntry(Tag.CS, 0L).containsEntry(Tag.SPRING, 2L)
+			.containsEntry(Tag.DB, 1L);
+	}
+
+	@Test
+	@DisplayName("후보 ID 제한 - 검색어 결과와 교집합")
+	void select_RestrictedToCandidates() {
+		// when
+		ArticleFacetIndex.Selection selection = index.select(Tag.SPRING, LocalDate.of(2024, 1, 1), null,
+			List.of(1L, 2L, 5L));
+
+		// then
+		assertThat(selection.contains(2L)).isTrue();
+		assertThat(selection.contains(3L)).isFalse();
+		assertThat(selection.total()).isEqualTo(2);
+		assertThat(selection.tagCounts()).containsEntry(Tag.CS, 1L).containsEntry(Tag.SPRING, 2L);
+	}
+
+	@Test
+	@DisplayName("같은 날 더 작은 ID가 늦게 들어와도 기간 필터에 포함")
+	void add_SmallerIdLater() {
+		// given
+		index.add(row(10L, Tag.ETC, LocalDate.of(2024, 2, 1)));
+		index.add(row(7L, Tag.ETC, LocalDate.of(2024, 2, 1)));
+
+		// when
+		ArticleFacetIndex.Selection selection = index.select(null, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 1),
+			null);
+
+		// then
+		assertThat(selection.newestIds(0, 10)).containsExactly(10L, 7L);
+	}
+
+	@Test
+	@DisplayName("같은 게시글을 다시 추가해도 건수는 그대로")
+	void add_Idempotent() {
+		// when
+		index.add(row(5L, Tag.SPRING, LocalDate.of(2024, 1, 3)));
+
+		// then
+		assertThat(index.select(Tag.SPRING, null, null, null).total()).isEqualTo(3);
+	}
+
+	private static ArticleIndexRow row(Long id, Tag tag, LocalDate createdOn) {
+		return new ArticleIndexRow(id, "Article " + id, "Author", tag, createdOn.atTime(10, 0));
+	}
+}
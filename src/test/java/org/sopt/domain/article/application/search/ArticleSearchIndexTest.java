@@ -0,0 +1,135 @@
+package org.sopt.domain.article.application.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.domain.article.domain.entity.Tag;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
+
+class ArticleSearchIndexTest {
+
+	private ArticleSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ArticleSearchIndex();
+		index.add(row(1L, "Spring Boot Tutorial", "Alice"));
+		index.add(row(2L, "Java Programming", "Bob"));
+		index.add(row(3L, "Learning Spring Security", "Carol"));
+		index.add(row(4L, "스프링 입문", "김규일"));
+		index.add(row(5L, "Kotlin Basics", "Springfield"));
+	}
+
+	@Test
+	@DisplayName("제목 접두 일치, 제목 포함, 작성자 이름 포함 순으로 정렬")
+	void search_RanksTitleBeforeAuthor() {
+		// when
+		var result = index.search("spring");
+
+		// then
+		assertThat(result).containsExactly(1L, 3L, 5L);
+	}
+
+	@Test
+	@DisplayName("대소문자와 공백 차이는 무시")
+	void search_NormalizesCaseAndWhitespace() {
+		// when & then
+		assertThat(index.search("  SPRING   boot ")).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("한글 검색 - 한 글자와 여러 글자, 조합형 입력")
+	void search_Korean() {
+		// when & then
+		assertThat(index.search("스프링")).containsExactly(4L);
+		assertThat(index.search("규")).containsExactly(4L);
+		assertThat(index.search(Normalizer.normalize("입문", Normalizer.Form.NFD))).containsExactly(4L);
+	}
+
+	@Test
+	@DisplayName("n-gram이 모두 존재해도 연속된 문자열이 아니면 제외")
+	void search_VerifiesSubstring() {
+		// given - "bc", "ca"는 모두 제목에 있지만 "bca"는 연속으로 나타나지 않는다
+		index.add(row(6L, "abc cab", "Dave"));
+
+		// when & then
+		assertThat(index.search("bca")).isEmpty();
+		assertThat(index.search("없는검색어")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("같은 게시글을 다시 추가해도 결과는 한 번만 포함")
+	void add_Idempotent() {
+		// when
+		boolean added = index.add(row(2L, "Java Programming", "Bob"));
+
+		// then
+		assertThat(added).isFalse();
+		assertThat(index.search("java")).containsExactly(2L);
+		assertThat(index.getDocumentCount()).isEqualTo(5);
+		assertThat(index.getMaxIndexedId()).isEqualTo(5L);
+	}
+
+	@Test
+	@DisplayName("내용이 바뀐 게시글은 이전 n-gram에서 제거")
+	void add_ReplacesChangedDocument() {
+		// when
+		index.add(row(2L, "Go Programming", "Bob"));
+
+		// then
+		assertThat(index.search("java")).isEmpty();
+		assertThat(index.search("go pro")).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("오타 허용 검색 - 편집 거리 이내의 제목 단어와 일치")
+	void searchFuzzy_MatchesTypos() {
+		// when & then - 전치(2), 한 글자 누락(1)
+		assertThat(index.search("sprnig")).isEmpty();
+		assertThat(index.searchFuzzy("Sprnig")).containsExactly(3L, 1L);
+		assertThat(index.searchFuzzy("sprin securty")).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("오타 허용 검색 - 포함 검색 결과를 먼저, 이후 거리 합이 작은 순")
+	void searchFuzzy_SubstringMatchesFirst() {
+		// given
+		index.add(row(6L, "Javas Tips", "Eve"));
+		index.add(row(7L, "Lava Lamp", "Frank"));
+
+		// when
+		var result = index.searchFuzzy("java");
+
+		// then - "java"를 포함하는 6, 2번이 먼저 나오고 편집 거리 1인 "lava"의 7번이 뒤에 붙는다
+		assertThat(result).containsExactly(6L, 2L, 7L);
+	}
+
+	@Test
+	@DisplayName("짧은 단어는 오타를 허용하지 않음")
+	void searchFuzzy_ShortTermsExactOnly() {
+		// when & then
+		assertThat(ArticleSearchIndex.maxEdits("go")).isZero();
+		assertThat(ArticleSearchIndex.maxEdits("java")).isEqualTo(1);
+		assertThat(ArticleSearchIndex.maxEdits("kotlin")).isEqualTo(2);
+		assertThat(index.searchFuzzy("xy")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("편집 거리 계산")
+	void distance() {
+		// when & then
+		assertThat(TermDeletionIndex.distance("spring", "sprnig")).isEqualTo(2);
+		assertThat(TermDeletionIndex.distance("kitten", "sitting")).isEqualTo(3);
+		assertThat(TermDeletionIndex.distance("스프링", "스프릥")).isEqualTo(1);
+		assertThat(TermDeletionIndex.distance("", "abc")).isEqualTo(3);
+	}
+
+	private static ArticleIndexRow row(Long id, String title, String authorName) {
+		return new ArticleIndexRow(id, title, authorName, Tag.CS, LocalDateTime.of(2024, 1, 1, 10, 0));
+	}
+}
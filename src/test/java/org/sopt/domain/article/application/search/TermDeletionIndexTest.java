@@ -0,0 +1,108 @@
+package org.sopt.domain.article.application.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TermDeletionIndexTest {
+
+	private TermDeletionIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TermDeletionIndex(ArticleSearchIndex::maxEdits);
+	}
+
+	@Test
+	@DisplayName("허용 거리 이내의 용어를 거리와 함께 반환")
+	void search_ReturnsTermsWithinDistance() {
+		// given
+		index.add("spring", 1L);
+		index.add("string", 2L);
+		index.add("sprig", 3L);
+		index.add("summer", 4L);
+
+		// when
+		List<TermDeletionIndex.Match> matches = index.search("sprnig");
+
+		// then
+		assertThat(matches)
+			.extracting(TermDeletionIndex.Match::term, TermDeletionIndex.Match::distance)
+			.containsExactlyInAnyOrder(tuple("spring", 2), tuple("sprig", 1));
+	}
+
+	@Test
+	@DisplayName("무작위 사전에서 전수 비교와 같은 결과")
+	void search_MatchesBruteForce() {
+		// given
+		Random random = new Random(42);
+		Set<String> dictionary = new HashSet<>();
+		while (dictionary.size() < 2_000) {
+			dictionary.add(randomWord(random, 1 + random.nextInt(9)));
+		}
+		dictionary.forEach(term -> index.add(term, 1L));
+
+		for (int i = 0; i < 300; i++) {
+			String query = randomWord(random, 1 + random.nextInt(9));
+			int maxDistance = ArticleSearchIndex.maxEdits(query);
+
+			// when
+			Set<String> actual = index.search(query).stream()
+				.map(TermDeletionIndex.Match::term)
+				.collect(Collectors.toSet());
+
+			// then
+			Set<String> expected = dictionary.stream()
+				.filter(term -> TermDeletionIndex.distance(term, query) <= maxDistance)
+				.collect(Collectors.toSet());
+			assertThat(actual).as("query=%s", query).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("마지막 게시글이 빠진 용어는 변형과 함께 제거")
+	void remove_DropsTermAndVariantsWhenUnused() {
+		// given
+		index.add("kotlin", 1L);
+		index.add("kotlin", 2L);
+		index.add("java", 3L);
+		int variantsWithKotlin = index.variantCount();
+
+		// when
+		index.remove("kotlin", 1L);
+		int variantsAfterFirstRemoval = index.variantCount();
+		index.remove("kotlin", 2L);
+
+		// then
+		assertThat(variantsAfterFirstRemoval).isEqualTo(variantsWithKotlin);
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.variantCount()).isEqualTo(TermDeletionIndex.variants("java", 1).size());
+		assertThat(index.search("kotlin")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("글자를 지운 변형 생성")
+	void variants() {
+		// when & then
+		assertThat(TermDeletionIndex.variants("abc", 0)).containsExactly("abc");
+		assertThat(TermDeletionIndex.variants("abc", 1)).containsExactlyInAnyOrder("abc", "bc", "ac", "ab");
+		assertThat(TermDeletionIndex.variants("aab", 2)).containsExactlyInAnyOrder("aab", "ab", "aa", "a", "b");
+	}
+
+	// 작은 알파벳을 써서 편집 거리 1~2인 용어 쌍이 충분히 생기도록 한다
+	private static String randomWord(Random random, int length) {
+		StringBuilder word = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			word.append((char)('a' + random.nextInt(6)));
+		}
+		return word.toString();
+	}
+}
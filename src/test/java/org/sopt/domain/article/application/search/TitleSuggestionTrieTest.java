@@ -0,0 +1,62 @@
+package org.sopt.domain.article.application.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.domain.article.application.search.TitleSuggestionTrie.Suggestion;
+
+class TitleSuggestionTrieTest {
+
+	private TitleSuggestionTrie trie;
+
+	@BeforeEach
+	void setUp() {
+		trie = new TitleSuggestionTrie(2);
+		trie.add("spring boot", new Suggestion(1L, "Spring Boot"));
+		trie.add("spring security", new Suggestion(2L, "Spring Security"));
+		trie.add("spring", new Suggestion(3L, "Spring"));
+		trie.add("sql tuning", new Suggestion(4L, "SQL Tuning"));
+	}
+
+	@Test
+	@DisplayName("접두어가 간선 중간에서 끝나도 하위 제목을 최신순 상위 K개로 반환")
+	void suggest_TopKNewestFirst() {
+		// when & then
+		assertThat(trie.suggest("s", 10)).extracting(Suggestion::id).containsExactly(4L, 3L);
+		assertThat(trie.suggest("spr", 10)).extracting(Suggestion::id).containsExactly(3L, 2L);
+		assertThat(trie.suggest("spring b", 10)).extracting(Suggestion::title).containsExactly("Spring Boot");
+		assertThat(trie.suggest("spring", 1)).extracting(Suggestion::id).containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("일치하는 접두어가 없거나 비어 있으면 빈 목록")
+	void suggest_NoMatch() {
+		// when & then
+		assertThat(trie.suggest("spx", 10)).isEmpty();
+		assertThat(trie.suggest("spring boots", 10)).isEmpty();
+		assertThat(trie.suggest("", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("제거 시 경로의 상위 K개를 하위 트리에서 다시 계산")
+	void remove_RecomputesTopK() {
+		// when
+		trie.remove("spring", 3L);
+
+		// then
+		assertThat(trie.suggest("spr", 10)).extracting(Suggestion::id).containsExactly(2L, 1L);
+		assertThat(trie.suggest("s", 10)).extracting(Suggestion::id).containsExactly(4L, 2L);
+	}
+
+	@Test
+	@DisplayName("같은 제안을 다시 추가해도 한 번만 포함")
+	void add_Idempotent() {
+		// when
+		trie.add("sql tuning", new Suggestion(4L, "SQL Tuning"));
+
+		// then
+		assertThat(trie.suggest("sq", 10)).extracting(Suggestion::id).containsExactly(4L);
+	}
+}
@@ -3,6 +3,9 @@ package org.sopt.domain.article.application.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,11 +15,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.sopt.domain.article.application.cache.ArticleFeedCache;
 import org.sopt.domain.article.application.dto.ArticleCreateRequest;
+import org.sopt.domain.article.application.dto.ArticleCursor;
 import org.sopt.domain.article.application.dto.ArticleResponse;
+import org.sopt.domain.article.application.dto.ArticleScrollResponse;
+import org.sopt.domain.article.application.dto.ArticleSearchCondition;
+import org.sopt.domain.article.application.dto.ArticleSuggestResponse;
+import org.sopt.domain.article.application.dto.ArticleSummaryResponse;
+import org.sopt.domain.article.application.dto.FacetedArticlePage;
+import org.sopt.domain.article.application.event.ArticleCreatedEvent;
+import org.sopt.domain.article.application.search.ArticleFacetIndex;
+import org.sopt.domain.article.application.search.ArticleSearchIndex;
 import org.sopt.domain.article.domain.entity.Article;
 import org.sopt.domain.article.domain.entity.Tag;
+import org.sopt.domain.article.domain.repository.ArticleIndexRow;
 import org.sopt.domain.article.domain.repository.ArticleRepository;
+import org.sopt.domain.article.domain.repository.ArticleSummary;
 import org.sopt.domain.article.exception.ArticleException;
 import org.sopt.domain.comment.domain.entity.Comment;
 import org.sopt.domain.comment.domain.repository.CommentRepository;
@@ -27,10 +42,13 @@ import org.sopt.fixture.ArticleFixture;
 import org.sopt.fixture.CommentFixture;
 import org.sopt.fixture.MemberFixture;
 import org.sopt.global.response.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ArticleServiceTest {
@@ -44,6 +62,18 @@ class ArticleServiceTest {
 	@Mock
 	private CommentRepository commentRepository;
 
+	@Mock
+	private ArticleSearchIndex articleSearchIndex;
+
+	@Mock
+	private ArticleFacetIndex articleFacetIndex;
+
+	@Mock
+	private ArticleFeedCache articleFeedCache;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private ArticleService articleService;
 
@@ -75,6 +105,7 @@ class ArticleServiceTest {
 		verify(articleRepository).existsByTitle(request.title());
 		verify(memberRepository).findById(authorId);
 		verify(articleRepository).save(any(Article.class));
+		verify(eventPublisher).publishEvent(any(ArticleCreatedEvent.class));
 	}
 
 	@Test
@@ -175,19 +206,45 @@ class ArticleServiceTest {
 		Article article2 = ArticleFixture.createArticle(author, "Article 2");
 
 		Pageable pageable = PageRequest.of(0, 10);
-		Page<Article> articlePage = new PageImpl<>(List.of(article1, article2), pageable, 2);
+		Pageable newestFirst = PageRequest.of(0, 10, ArticleFeedCache.NEWEST_FIRST);
+		Slice<ArticleSummary> articleSlice = new SliceImpl<>(summaries(article1, article2), newestFirst, false);
 
-		given(articleRepository.findAllWithAuthor(pageable)).willReturn(articlePage);
+		given(articleFeedCache.covers(pageable)).willReturn(false);
+		given(articleRepository.findAllSummaries(newestFirst)).willReturn(articleSlice);
 
 		// when
-		Page<ArticleResponse> result = articleService.getArticles(null, pageable);
+		Slice<ArticleSummaryResponse> result = articleService.getArticles(condition(null, false), pageable,
+			false);
 
 		// then
 		assertThat(result.getContent()).hasSize(2);
-		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(result.hasNext()).isFalse();
+
+		verify(articleRepository).findAllSummaries(newestFirst);
+		verify(articleRepository, never()).findSummariesByTitleOrAuthorNameContaining(anyString(), any());
+		verify(articleRepository, never()).countAll();
+	}
+
+	@Test
+	@DisplayName("게시글 목록 조회 - 피드 앞쪽 페이지는 캐시에서 응답")
+	void getArticles_FromFeedCache() {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		Article article = ArticleFixture.createArticleWithId(1L, author, "Article 1");
+		Pageable pageable = PageRequest.of(1, ArticleFeedCache.PAGE_SIZE);
+		Slice<ArticleSummaryResponse> cached = new SliceImpl<>(
+			List.of(ArticleSummaryResponse.from(ArticleSummary.from(article))), pageable, true);
+
+		given(articleFeedCache.covers(pageable)).willReturn(true);
+		given(articleFeedCache.getPage(pageable)).willReturn(cached);
+
+		// when
+		Slice<ArticleSummaryResponse> result = articleService.getArticles(condition(null, false), pageable,
+			false);
 
-		verify(articleRepository).findAllWithAuthor(pageable);
-		verify(articleRepository, never()).findByTitleOrAuthorNameContaining(anyString(), any());
+		// then
+		assertThat(result).isSameAs(cached);
+		verifyNoInteractions(articleRepository);
 	}
 
 	@Test
@@ -200,18 +257,254 @@ class ArticleServiceTest {
 
 		String keyword = "Spring";
 		Pageable pageable = PageRequest.of(0, 10);
-		Page<Article> articlePage = new PageImpl<>(List.of(article1, article2), pageable, 2);
+		Slice<ArticleSummary> articleSlice = new SliceImpl<>(summaries(article1, article2), pageable, false);
 
-		given(articleRepository.findByTitleOrAuthorNameContaining(keyword, pageable)).willReturn(articlePage);
+		given(articleRepository.findSummariesByTitleOrAuthorNameContaining(keyword, pageable))
+			.willReturn(articleSlice);
+		given(articleRepository.countByTitleOrAuthorNameContaining(keyword)).willReturn(2L);
 
 		// when
-		Page<ArticleResponse> result = articleService.getArticles(keyword, pageable);
+		Slice<ArticleSummaryResponse> result = articleService.getArticles(condition(keyword, false), pageable,
+			true);
 
 		// then
 		assertThat(result.getContent()).hasSize(2);
-		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(((Page<ArticleSummaryResponse>)result).getTotalElements()).isEqualTo(2);
+
+		verify(articleRepository).findSummariesByTitleOrAuthorNameContaining(keyword, pageable);
+		verify(articleRepository, never()).findAllSummaries(any());
+	}
+
+	@Test
+	@DisplayName("게시글 검색 - 색인 결과 순서대로 현재 페이지만 조회")
+	void getArticles_WithKeywordFromIndex() {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		Article article3 = ArticleFixture.createArticleWithId(3L, author, "Spring Boot Tutorial");
+		Article article5 = ArticleFixture.createArticleWithId(5L, author, "Spring Security Guide");
+
+		String keyword = "Spring";
+		Pageable pageable = PageRequest.of(0, 2);
+
+		given(articleSearchIndex.isReady()).willReturn(true);
+		given(articleSearchIndex.search(keyword)).willReturn(List.of(5L, 3L, 1L));
+		given(articleRepository.findSummariesByIdIn(List.of(5L, 3L))).willReturn(summaries(article3, article5));
+
+		// when
+		Slice<ArticleSummaryResponse> result = articleService.getArticles(condition(keyword, false), pageable,
+			true);
+
+		// then
+		assertThat(result.getContent()).extracting(ArticleSummaryResponse::id).containsExactly(5L, 3L);
+		assertThat(((Page<ArticleSummaryResponse>)result).getTotalElements()).isEqualTo(3);
+		assertThat(result.hasNext()).isTrue();
+
+		verify(articleRepository, never()).findSummariesByTitleOrAuthorNameContaining(anyString(), any());
+		verify(articleRepository, never()).countByTitleOrAuthorNameContaining(anyString());
+	}
+
+	@Test
+	@DisplayName("게시글 검색 - 오타 허용 검색은 색인의 fuzzy 결과 사용")
+	void getArticles_FuzzyKeyword() {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		Article article = ArticleFixture.createArticleWithId(3L, author, "Spring Boot Tutorial");
+		Pageable pageable = PageRequest.of(0, 20);
+
+		given(articleSearchIndex.isReady()).willReturn(true);
+		given(articleSearchIndex.searchFuzzy("Sprnig")).willReturn(List.of(3L));
+		given(articleRepository.findSummariesByIdIn(List.of(3L))).willReturn(summaries(article));
+
+		// when
+		Slice<ArticleSummaryResponse> result = articleService.getArticles(condition("Sprnig", true), pageable,
+			false);
+
+		// then
+		assertThat(result.getContent()).extracting(ArticleSummaryResponse::title)
+			.containsExactly("Spring Boot Tutorial");
+		assertThat(result.hasNext()).isFalse();
+		verify(articleSearchIndex, never()).search(anyString());
+	}
+
+	@Test
+	@DisplayName("커서 기반 목록 조회 - size + 1건이 조회되면 다음 커서 반환")
+	void scrollArticles_HasNext() {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		LocalDateTime now = LocalDateTime.now();
+		Article article3 = createdArticle(3L, author, "Article 3", now);
+		Article article2 = createdArticle(2L, author, "Article 2", now.minusMinutes(1));
+		Article article1 = createdArticle(1L, author, "Article 1", now.minusMinutes(2));
+
+		given(articleRepository.findFirstSummaries(PageRequest.of(0, 3)))
+			.willReturn(summaries(article3, article2, article1));
+
+		// when
+		ArticleScrollResponse result = articleService.scrollArticles(null, 2);
+
+		// then
+		assertThat(result.articles()).extracting(ArticleSummaryResponse::id).containsExactly(3L, 2L);
+		assertThat(result.hasNext()).isTrue();
+		assertThat(ArticleCursor.decode(result.nextCursor())).isEqualTo(new ArticleCursor(now.minusMinutes(1), 2L));
+		verify(articleRepository, never()).findAllSummaries(any());
+	}
+
+	@Test
+	@DisplayName("커서 기반 목록 조회 - 커서 이후 마지막 페이지")
+	void scrollArticles_LastPage() {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+		Article article1 = createdArticle(1L, author, "Article 1", createdAt.minusMinutes(1));
+		String cursor = new ArticleCursor(createdAt, 2L).encode();
+
+		given(articleRepository.findSummariesBefore(createdAt, 2L, PageRequest.of(0, 3)))
+			.willReturn(summaries(article1));
+
+		// when
+		ArticleScrollResponse result = articleService.scrollArticles(cursor, 2);
+
+		// then
+		assertThat(result.articles()).hasSize(1);
+		assertThat(result.hasNext()).isFalse();
+		assertThat(result.nextCursor()).isNull();
+	}
 
-		verify(articleRepository).findByTitleOrAuthorNameContaining(keyword, pageable);
-		verify(articleRepository, never()).findAllWithAuthor(any());
+	@Test
+	@DisplayName("커서 기반 목록 조회 실패 - 잘못된 커서")
+	void scrollArticles_InvalidCursor() {
+		// when & then
+		assertThatThrownBy(() -> articleService.scrollArticles("not-a-cursor", 20))
+			.isInstanceOf(ArticleException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+	}
+
+	@Test
+	@DisplayName("태그/기간 필터 - 최신순 결과와 태그별 건수 반환")
+	void getArticles_WithFilter() {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		Article article3 = ArticleFixture.createArticleWithTag(author, "Spring Data", Tag.SPRING);
+		ReflectionTestUtils.setField(article3, "id", 3L);
+
+		ArticleFacetIndex facetIndex = new ArticleFacetIndex();
+		LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+		facetIndex.add(new ArticleIndexRow(1L, "Spring Boot", "Author", Tag.SPRING, createdAt));
+		facetIndex.add(new ArticleIndexRow(2L, "Index Tuning", "Author", Tag.DB, createdAt));
+		facetIndex.add(new ArticleIndexRow(3L, "Spring Data", "Author", Tag.SPRING, createdAt));
+		ArticleFacetIndex.Selection selection = facetIndex.select(Tag.SPRING, null, null, null);
+
+		ArticleSearchCondition condition = new ArticleSearchCondition(null, false, Tag.SPRING, null, null);
+		Pageable pageable = PageRequest.of(0, 1);
+
+		given(articleFacetIndex.isReady()).willReturn(true);
+		given(articleFacetIndex.select(Tag.SPRING, null, null, null)).willReturn(selection);
+		given(articleRepository.findSummariesByIdIn(List.of(3L))).willReturn(summaries(article3));
+
+		// when
+		Slice<ArticleSummaryResponse> result = articleService.getArticles(condition, pageable, false);
+
+		// then
+		assertThat(result).isInstanceOf(FacetedArticlePage.class);
+		FacetedArticlePage page = (FacetedArticlePage)result;
+		assertThat(page.getContent()).extracting(ArticleSummaryResponse::id).containsExactly(3L);
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.getTagCounts()).containsEntry(Tag.SPRING, 2L).containsEntry(Tag.DB, 1L)
+			.containsEntry(Tag.CS, 0L);
+		verify(articleRepository, never()).findAllSummaries(any());
+	}
+
+	@Test
+	@DisplayName("태그/기간 필터 실패 - 시작일이 종료일보다 늦음")
+	void getArticles_InvalidDateRange() {
+		// given
+		ArticleSearchCondition condition = new ArticleSearchCondition(null, false, null,
+			LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1));
+
+		// when & then
+		assertThatThrownBy(() -> articleService.getArticles(condition, PageRequest.of(0, 20), false))
+			.isInstanceOf(ArticleException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
+	}
+
+	@Test
+	@DisplayName("태그/기간 필터 실패 - 색인 준비 전")
+	void getArticles_FilterIndexNotReady() {
+		// given
+		ArticleSearchCondition condition = new ArticleSearchCondition(null, false, Tag.DB, null, null);
+		given(articleFacetIndex.isReady()).willReturn(false);
+
+		// when & then
+		assertThatThrownBy(() -> articleService.getArticles(condition, PageRequest.of(0, 20), false))
+			.isInstanceOf(ArticleException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.ARTICLE_INDEX_NOT_READY);
+		verifyNoInteractions(articleRepository);
+	}
+
+	@Test
+	@DisplayName("게시글 목록 조회 - 긴 본문은 앞부분만 응답")
+	void getArticles_ExcerptOnly() {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		Article longArticle = Article.create(author, "Long Article", "a".repeat(500), Tag.CS);
+		Article shortArticle = ArticleFixture.createArticle(author, "Short Article");
+		Pageable pageable = PageRequest.of(0, 10);
+
+		given(articleRepository.findAllSummaries(PageRequest.of(0, 10, ArticleFeedCache.NEWEST_FIRST)))
+			.willReturn(new SliceImpl<>(summaries(longArticle, shortArticle), pageable, false));
+
+		// when
+		Slice<ArticleSummaryResponse> result = articleService.getArticles(condition(null, false), pageable,
+			false);
+
+		// then
+		assertThat(result.getContent().get(0).excerpt())
+			.isEqualTo("a".repeat(ArticleSummary.EXCERPT_LENGTH) + "…");
+		assertThat(result.getContent().get(1).excerpt()).isEqualTo(shortArticle.getContent());
+	}
+
+	private static ArticleSearchCondition condition(String keyword, boolean fuzzy) {
+		return new ArticleSearchCondition(keyword, fuzzy, null, null, null);
+	}
+
+	private Article createdArticle(Long id, Member author, String title, LocalDateTime createdAt) {
+		Article article = ArticleFixture.createArticleWithId(id, author, title);
+		ReflectionTestUtils.setField(article, "createdAt", createdAt);
+		return article;
+	}
+
+	private static List<ArticleSummary> summaries(Article... articles) {
+		return Arrays.stream(articles).map(ArticleSummary::from).toList();
+	}
+
+	@Test
+	@DisplayName("제목 자동완성 - 색인에서만 조회")
+	void suggestTitles_FromIndex() {
+		// given
+		List<ArticleSuggestResponse> suggestions = List.of(new ArticleSuggestResponse(1L, "Spring Boot Tutorial"));
+		given(articleSearchIndex.isReady()).willReturn(true);
+		given(articleSearchIndex.suggest("spr", 10)).willReturn(suggestions);
+
+		// when
+		List<ArticleSuggestResponse> result = articleService.suggestTitles("spr", 10);
+
+		// then
+		assertThat(result).isEqualTo(suggestions);
+		verifyNoInteractions(articleRepository);
+	}
+
+	@Test
+	@DisplayName("제목 자동완성 - 색인 준비 전에는 빈 목록")
+	void suggestTitles_IndexNotReady() {
+		// given
+		given(articleSearchIndex.isReady()).willReturn(false);
+
+		// when
+		List<ArticleSuggestResponse> result = articleService.suggestTitles("spr", 10);
+
+		// then
+		assertThat(result).isEmpty();
+		verify(articleSearchIndex, never()).suggest(anyString(), anyInt());
+		verifyNoInteractions(articleRepository);
 	}
 }
@@ -2,6 +2,7 @@ package org.sopt.domain.article.domain.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,9 +18,9 @@ import org.sopt.fixture.MemberFixture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 @RepositoryTest
 class ArticleRepositoryTest {
@@ -98,8 +99,8 @@ class ArticleRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("작성자 함께 전체 게시글 조회 - 페이징")
-	void findAllWithAuthor_Pagination() {
+	@DisplayName("전체 게시글 목록 조회 - 페이징")
+	void findAllSummaries_Pagination() {
 		// given
 		Member author2 = MemberFixture.createLocalMember("author2@example.com", "Author2");
 		author2 = memberRepository.save(author2);
@@ -116,22 +117,23 @@ class ArticleRepositoryTest {
 		Pageable pageable = PageRequest.of(0, 2);
 
 		// when
-		Page<Article> result = articleRepository.findAllWithAuthor(pageable);
+		Slice<ArticleSummary> result = articleRepository.findAllSummaries(pageable);
 
 		// then
 		assertThat(result.getContent()).hasSize(2);
-		assertThat(result.getTotalElements()).isEqualTo(3);
-		assertThat(result.getTotalPages()).isEqualTo(2);
+		assertThat(result.hasNext()).isTrue();
+		assertThat(articleRepository.countAll()).isEqualTo(3);
 
-		// author가 이미 로딩되어 있어야 함
+		// 작성자 정보가 함께 조회되어야 함
 		result.getContent().forEach(article -> {
-			assertThat(article.getAuthor()).isNotNull();
+			assertThat(article.authorId()).isNotNull();
+			assertThat(article.authorName()).isNotNull();
 		});
 	}
 
 	@Test
 	@DisplayName("제목 또는 작성자 이름으로 검색 - 페이징")
-	void findByTitleOrAuthorNameContaining_ByTitle() {
+	void findSummariesByTitleOrAuthorNameContaining_ByTitle() {
 		// given
 		Article article1 = ArticleFixture.createArticle(author, "Spring Boot Tutorial");
 		Article article2 = ArticleFixture.createArticle(author, "Java Programming");
@@ -145,20 +147,22 @@ class ArticleRepositoryTest {
 		Pageable pageable = PageRequest.of(0, 10);
 
 		// when - 제목에 "Spring" 포함된 게시글 검색
-		Page<Article> result = articleRepository.findByTitleOrAuthorNameContaining("Spring", pageable);
+		Slice<ArticleSummary> result = articleRepository.findSummariesByTitleOrAuthorNameContaining("Spring",
+			pageable);
 
 		// then
 		assertThat(result.getContent()).hasSize(2);
-		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(result.hasNext()).isFalse();
+		assertThat(articleRepository.countByTitleOrAuthorNameContaining("Spring")).isEqualTo(2);
 
 		result.getContent().forEach(article -> {
-			assertThat(article.getTitle()).contains("Spring");
+			assertThat(article.title()).contains("Spring");
 		});
 	}
 
 	@Test
 	@DisplayName("제목 또는 작성자 이름으로 검색 - 작성자 이름으로 검색")
-	void findByTitleOrAuthorNameContaining_ByAuthorName() {
+	void findSummariesByTitleOrAuthorNameContaining_ByAuthorName() {
 		// given
 		Member author2 = MemberFixture.createLocalMember("author2@example.com", "Alice");
 		author2 = memberRepository.save(author2);
@@ -173,11 +177,12 @@ class ArticleRepositoryTest {
 		Pageable pageable = PageRequest.of(0, 10);
 
 		// when - 작성자 이름에 "Alice" 포함된 게시글 검색
-		Page<Article> result = articleRepository.findByTitleOrAuthorNameContaining("Alice", pageable);
+		Slice<ArticleSummary> result = articleRepository.findSummariesByTitleOrAuthorNameContaining("Alice",
+			pageable);
 
 		// then
 		assertThat(result.getContent()).hasSize(1);
-		assertThat(result.getContent().get(0).getAuthor().getName()).contains("Alice");
+		assertThat(result.getContent().get(0).authorName()).contains("Alice");
 	}
 
 	@Test
@@ -197,4 +202,88 @@ class ArticleRepositoryTest {
 			entityManager.flush();  // flush to trigger constraint check
 		}).isInstanceOf(DataIntegrityViolationException.class);
 	}
+
+	@Test
+	@DisplayName("커서 기반 조회 - (createdAt, id) 내림차순으로 이어서 조회")
+	void findSummariesBefore_ContinuesFromCursor() {
+		// given
+		for (int i = 1; i <= 5; i++) {
+			articleRepository.save(ArticleFixture.createArticle(author, "Scroll Article " + i));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		List<ArticleSummary> first = articleRepository.findFirstSummaries(PageRequest.of(0, 2));
+		ArticleSummary last = first.get(first.size() - 1);
+		List<ArticleSummary> second = articleRepository.findSummariesBefore(last.createdAt(), last.id(),
+			PageRequest.of(0, 10));
+
+		// then
+		assertThat(first).hasSize(2);
+		assertThat(second).hasSize(3);
+		assertThat(first).extracting(ArticleSummary::id).doesNotContainAnyElementsOf(
+			second.stream().map(ArticleSummary::id).toList());
+		assertThat(second).isSortedAccordingTo((a, b) -> {
+			int byCreatedAt = b.createdAt().compareTo(a.createdAt());
+			return byCreatedAt != 0 ? byCreatedAt : b.id().compareTo(a.id());
+		});
+	}
+
+	@Test
+	@DisplayName("검색 색인 적재 - id 이후 게시글을 본문 없이 id 순으로 조회")
+	void findIndexRowsAfter_OrderedById() {
+		// given
+		Article article1 = articleRepository.save(ArticleFixture.createArticle(author, "Index Article 1"));
+		Article article2 = articleRepository.save(ArticleFixture.createArticle(author, "Index Article 2"));
+		Article article3 = articleRepository.save(ArticleFixture.createArticle(author, "Index Article 3"));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		List<ArticleIndexRow> rows = articleRepository.findIndexRowsAfter(article1.getId(), PageRequest.of(0, 10));
+
+		// then
+		assertThat(rows).extracting(ArticleIndexRow::id).containsExactly(article2.getId(), article3.getId());
+		assertThat(rows.get(0).title()).isEqualTo("Index Article 2");
+		assertThat(rows.get(0).authorName()).isEqualTo(author.getName());
+	}
+
+	@Test
+	@DisplayName("id 목록으로 게시글 목록 조회 - 작성자 포함")
+	void findSummariesByIdIn_Success() {
+		// given
+		Article article1 = articleRepository.save(ArticleFixture.createArticle(author, "Hydrate Article 1"));
+		articleRepository.save(ArticleFixture.createArticle(author, "Hydrate Article 2"));
+		Article article3 = articleRepository.save(ArticleFixture.createArticle(author, "Hydrate Article 3"));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		List<ArticleSummary> result = articleRepository.findSummariesByIdIn(
+			List.of(article3.getId(), article1.getId()));
+
+		// then
+		assertThat(result).extracting(ArticleSummary::id)
+			.containsExactlyInAnyOrder(article1.getId(), article3.getId());
+		result.forEach(article -> assertThat(article.authorName()).isEqualTo(author.getName()));
+	}
+
+	@Test
+	@DisplayName("게시글 목록 조회 - 본문은 앞부분만 DB에서 잘라서 조회")
+	void findAllSummaries_ContentHeadOnly() {
+		// given
+		String content = "가".repeat(ArticleSummary.EXCERPT_LENGTH * 3);
+		articleRepository.save(Article.create(author, "Long Article", content, Tag.CS));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		Slice<ArticleSummary> result = articleRepository.findAllSummaries(PageRequest.of(0, 10));
+
+		// then
+		assertThat(result.getContent()).hasSize(1);
+		assertThat(result.getContent().get(0).contentHead()).isEqualTo(content.substring(0,
+			ArticleSummary.EXCERPT_LENGTH + 1));
+	}
 }
@@ -4,7 +4,9 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,9 +18,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.sopt.config.MockArgumentResolver;
 import org.sopt.domain.article.application.dto.ArticleCreateRequest;
 import org.sopt.domain.article.application.dto.ArticleResponse;
+import org.sopt.domain.article.application.dto.ArticleSearchCondition;
+import org.sopt.domain.article.application.dto.ArticleSuggestResponse;
+import org.sopt.domain.article.application.dto.ArticleSummaryResponse;
+import org.sopt.domain.article.application.dto.FacetedArticlePage;
 import org.sopt.domain.article.application.service.ArticleService;
 import org.sopt.domain.article.domain.entity.Article;
 import org.sopt.domain.article.domain.entity.Tag;
+import org.sopt.domain.article.domain.repository.ArticleSummary;
 import org.sopt.domain.article.exception.ArticleException;
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.fixture.ArticleFixture;
@@ -29,6 +36,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -177,13 +186,13 @@ class ArticleControllerTest {
 		Article article1 = ArticleFixture.createArticleWithId(1L, author, "Article 1");
 		Article article2 = ArticleFixture.createArticleWithId(2L, author, "Article 2");
 
-		ArticleResponse response1 = ArticleResponse.fromEntity(article1);
-		ArticleResponse response2 = ArticleResponse.fromEntity(article2);
+		ArticleSummaryResponse response1 = ArticleSummaryResponse.from(ArticleSummary.from(article1));
+		ArticleSummaryResponse response2 = ArticleSummaryResponse.from(ArticleSummary.from(article2));
 
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<ArticleResponse> page = new PageImpl<>(List.of(response1, response2), pageable, 2);
+		Slice<ArticleSummaryResponse> slice = new SliceImpl<>(List.of(response1, response2), pageable, false);
 
-		given(articleService.getArticles(isNull(), any(Pageable.class))).willReturn(page);
+		given(articleService.getArticles(eq(new ArticleSearchCondition(null, false, null, null, null)), any(Pageable.class), eq(false))).willReturn(slice);
 
 		// when & then
 		mockMvc.perform(get("/articles")
@@ -194,9 +203,12 @@ class ArticleControllerTest {
 			.andExpect(jsonPath("$.content.length()").value(2))
 			.andExpect(jsonPath("$.content[0].title").value("Article 1"))
 			.andExpect(jsonPath("$.content[1].title").value("Article 2"))
-			.andExpect(jsonPath("$.totalElements").value(2));
+			.andExpect(jsonPath("$.content[0].excerpt").value(article1.getContent()))
+			.andExpect(jsonPath("$.content[0].content").doesNotExist())
+			.andExpect(jsonPath("$.last").value(true))
+			.andExpect(jsonPath("$.totalElements").doesNotExist());
 
-		verify(articleService).getArticles(isNull(), any(Pageable.class));
+		verify(articleService).getArticles(eq(new ArticleSearchCondition(null, false, null, null, null)), any(Pageable.class), eq(false));
 	}
 
 	@Test
@@ -207,16 +219,18 @@ class ArticleControllerTest {
 		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
 		Article article = ArticleFixture.createArticleWithId(1L, author, "Spring Boot Tutorial");
 
-		ArticleResponse response = ArticleResponse.fromEntity(article);
+		ArticleSummaryResponse response = ArticleSummaryResponse.from(ArticleSummary.from(article));
 
 		Pageable pageable = PageRequest.of(0, 20);
-		Page<ArticleResponse> page = new PageImpl<>(List.of(response), pageable, 1);
+		Page<ArticleSummaryResponse> page = new PageImpl<>(List.of(response), pageable, 1);
 
-		given(articleService.getArticles(eq(keyword), any(Pageable.class))).willReturn(page);
+		given(articleService.getArticles(eq(new ArticleSearchCondition(keyword, false, null, null, null)), any(Pageable.class),
+			eq(true))).willReturn(page);
 
 		// when & then
 		mockMvc.perform(get("/articles")
 				.param("keyword", keyword)
+				.param("withTotal", "true")
 				.param("page", "0")
 				.param("size", "20"))
 			.andExpect(status().isOk())
@@ -225,6 +239,56 @@ class ArticleControllerTest {
 			.andExpect(jsonPath("$.content[0].title").value("Spring Boot Tutorial"))
 			.andExpect(jsonPath("$.totalElements").value(1));
 
-		verify(articleService).getArticles(eq(keyword), any(Pageable.class));
+		verify(articleService).getArticles(eq(new ArticleSearchCondition(keyword, false, null, null, null)), any(Pageable.class),
+			eq(true));
+	}
+
+	@Test
+	@DisplayName("게시글 제목 자동완성")
+	void suggestTitles_Success() throws Exception {
+		// given
+		given(articleService.suggestTitles("spr", 5)).willReturn(List.of(
+			new ArticleSuggestResponse(3L, "Spring Security Guide"),
+			new ArticleSuggestResponse(1L, "Spring Boot Tutorial")
+		));
+
+		// when & then
+		mockMvc.perform(get("/articles/suggest")
+				.param("prefix", "spr")
+				.param("size", "5"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(2))
+			.andExpect(jsonPath("$[0].id").value(3))
+			.andExpect(jsonPath("$[0].title").value("Spring Security Guide"));
+
+		verify(articleService).suggestTitles("spr", 5);
+		verify(articleService, never()).getArticles(any(), any(), anyBoolean());
+	}
+
+	@Test
+	@DisplayName("게시글 목록 - 태그/기간 필터와 태그별 건수")
+	void getAllArticles_WithFilter() throws Exception {
+		// given
+		Member author = MemberFixture.createMemberWithId(1L, "author@example.com", "Author");
+		Article article = ArticleFixture.createArticleWithId(1L, author, "Spring Data");
+		ArticleSearchCondition condition = new ArticleSearchCondition(null, false, Tag.SPRING,
+			LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+		FacetedArticlePage page = new FacetedArticlePage(List.of(ArticleSummaryResponse.from(ArticleSummary.from(article))),
+			PageRequest.of(0, 20), 1, Map.of(Tag.SPRING, 1L, Tag.DB, 4L));
+
+		given(articleService.getArticles(eq(condition), any(Pageable.class), eq(false))).willReturn(page);
+
+		// when & then
+		mockMvc.perform(get("/articles")
+				.param("tag", "SPRING")
+				.param("from", "2024-01-01")
+				.param("to", "2024-01-31"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(1))
+			.andExpect(jsonPath("$.totalElements").value(1))
+			.andExpect(jsonPath("$.tagCounts.SPRING").value(1))
+			.andExpect(jsonPath("$.tagCounts.DB").value(4));
+
+		verify(articleService).getArticles(eq(condition), any(Pageable.class), eq(false));
 	}
 }
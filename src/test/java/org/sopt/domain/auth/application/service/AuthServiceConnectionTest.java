@@ -0,0 +1,107 @@
+package org.sopt.domain.auth.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.annotation.RepositoryTest;
+import org.sopt.config.ConnectionProbingPasswordEncoder;
+import org.sopt.domain.auth.application.dto.request.LoginRequest;
+import org.sopt.domain.auth.application.dto.response.LoginResponse;
+import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
+import org.sopt.domain.member.domain.entity.Gender;
+import org.sopt.domain.member.domain.entity.Member;
+import org.sopt.domain.member.domain.repository.MemberRepository;
+import org.sopt.global.auth.jwt.AccessTokenRevocationList;
+import org.sopt.global.auth.jwt.JwtProperties;
+import org.sopt.global.auth.jwt.JwtProvider;
+import org.sopt.global.auth.ratelimit.LoginRateLimiter;
+import org.sopt.global.auth.security.PasswordHasher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 로그인 시 bcrypt 검증 동안 DB 커넥션을 점유하지 않는지 검증한다.
+ * 서비스 트랜잭션 경계를 그대로 확인하기 위해 테스트 자체는 트랜잭션 없이 실행한다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthService.class, JwtProvider.class, AuthServiceConnectionTest.Config.class})
+class AuthServiceConnectionTest {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private ConnectionProbingPasswordEncoder passwordEncoder;
+
+	@MockBean
+	private AccessTokenRevocationList accessTokenRevocationList;
+
+	@MockBean
+	private LoginRateLimiter loginRateLimiter;
+
+	@AfterEach
+	void tearDown() {
+		refreshTokenRepository.deleteAll();
+		memberRepository.deleteAll();
+		passwordEncoder.reset();
+	}
+
+	@Test
+	@DisplayName("로그인 - 비밀번호 검증 중에는 사용 중인 커넥션이 없음")
+	void login_NoConnectionHeldWhileVerifying() {
+		// given
+		String encodedPassword = passwordEncoder.encodeWithoutProbe("password123!");
+		memberRepository.save(Member.create(encodedPassword, "Test User", LocalDate.of(2000, 1, 1),
+			"login@example.com", Gender.MALE));
+
+		// when
+		LoginResponse response = authService.login(new LoginRequest("login@example.com", "password123!", "phone"),
+			"127.0.0.1");
+
+		// then
+		assertThat(passwordEncoder.getActiveConnections()).containsExactly(0);
+		assertThat(response.accessToken()).isNotBlank();
+		assertThat(refreshTokenRepository.findAll()).hasSize(1);
+	}
+
+	@TestConfiguration
+	static class Config {
+
+		@Bean
+		JwtProperties jwtProperties() {
+			JwtProperties jwtProperties = new JwtProperties();
+			jwtProperties.setSecret("test-jwt-secret-key-minimum-256-bits-required-for-hs256-algorithm-security-testing");
+			jwtProperties.setExpiresInSeconds(3600L);
+			jwtProperties.setRefreshExpiresInSeconds(86400L);
+			return jwtProperties;
+		}
+
+		@Bean
+		ConnectionProbingPasswordEncoder connectionProbingPasswordEncoder(DataSource dataSource) {
+			return new ConnectionProbingPasswordEncoder(dataSource);
+		}
+
+		@Bean
+		PasswordHasher passwordHasher(ConnectionProbingPasswordEncoder passwordEncoder) {
+			return new PasswordHasher(passwordEncoder, 1, 4);
+		}
+	}
+}
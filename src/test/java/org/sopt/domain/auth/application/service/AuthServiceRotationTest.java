@@ -0,0 +1,169 @@
+package org.sopt.domain.auth.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.annotation.RepositoryTest;
+import org.sopt.domain.auth.application.dto.TokenPair;
+import org.sopt.domain.auth.application.dto.request.TokenRefreshRequest;
+import org.sopt.domain.auth.application.dto.response.TokenRefreshResponse;
+import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
+import org.sopt.domain.auth.domain.repository.RotatedRefreshTokenRepository;
+import org.sopt.domain.auth.exception.AuthException;
+import org.sopt.global.auth.jwt.AccessTokenRevocationList;
+import org.sopt.global.auth.jwt.JwtProperties;
+import org.sopt.global.auth.jwt.JwtProvider;
+import org.sopt.global.auth.jwt.TokenDigest;
+import org.sopt.global.auth.ratelimit.LoginRateLimiter;
+import org.sopt.global.auth.security.PasswordHasher;
+import org.sopt.global.response.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 갱신으로 교체된 Refresh Token이 다시 사용되는 경우를 실제 DB로 검증한다.
+ * 세션 폐기가 예외와 함께 커밋되는지 확인하기 위해 테스트 자체는 트랜잭션 없이 실행한다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthService.class, JwtProvider.class, AuthServiceRotationTest.Config.class})
+class AuthServiceRotationTest {
+
+	private static final Long MEMBER_ID = 1L;
+	private static final long GRACE_SECONDS = 10;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private RotatedRefreshTokenRepository rotatedRefreshTokenRepository;
+
+	@Autowired
+	private JwtProperties jwtProperties;
+
+	@MockBean
+	private PasswordHasher passwordHasher;
+
+	@MockBean
+	private AccessTokenRevocationList accessTokenRevocationList;
+
+	@MockBean
+	private LoginRateLimiter loginRateLimiter;
+
+	@AfterEach
+	void tearDown() {
+		refreshTokenRepository.deleteAll();
+		rotatedRefreshTokenRepository.deleteAll();
+		jwtProperties.setRefreshReuseGraceSeconds(GRACE_SECONDS);
+	}
+
+	@Test
+	@DisplayName("토큰 갱신 - 교체된 토큰의 해시를 보관")
+	void renewalRefreshToken_KeepsRotatedHash() {
+		// given
+		TokenPair tokens = authService.generateAndSaveTokens(MEMBER_ID, "test@example.com", "phone");
+
+		// when
+		TokenRefreshResponse response = authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken()));
+
+		// then
+		assertThat(rotatedRefreshTokenRepository.findByTokenHash(TokenDigest.sha256(tokens.refreshToken())))
+			.hasValueSatisfying(rotated -> {
+				assertThat(rotated.getMemberId()).isEqualTo(MEMBER_ID);
+				assertThat(rotated.getDeviceId()).isEqualTo("phone");
+				assertThat(rotated.getReplacedByHash()).isEqualTo(TokenDigest.sha256(response.refreshToken()));
+			});
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(response.refreshToken()))).isPresent();
+	}
+
+	@Test
+	@DisplayName("토큰 갱신 실패 - 새 토큰을 쓰기 전 같은 토큰의 재시도는 거절만 하고 세션은 유지")
+	void renewalRefreshToken_RetryWithinGraceKeepsSession() {
+		// given - 첫 응답을 받지 못한 클라이언트가 같은 토큰으로 다시 요청
+		TokenPair tokens = authService.generateAndSaveTokens(MEMBER_ID, "test@example.com", "phone");
+		TokenRefreshResponse rotated = authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken()));
+
+		// when & then
+		assertThatThrownBy(() -> authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken())))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOKEN_BLACKLISTED);
+
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(rotated.refreshToken()))).isPresent();
+		assertThatCode(() -> authService.renewalRefreshToken(new TokenRefreshRequest(rotated.refreshToken())))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("토큰 갱신 실패 - 새 토큰이 이미 쓰인 뒤 교체된 토큰 재사용 시 TOKEN_BLACKLISTED, 해당 기기 세션 폐기")
+	void renewalRefreshToken_ReuseAfterReplacementUsed() {
+		// given
+		TokenPair tokens = authService.generateAndSaveTokens(MEMBER_ID, "test@example.com", "phone");
+		authService.generateAndSaveTokens(MEMBER_ID, "test@example.com", "laptop");
+		TokenRefreshResponse second = authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken()));
+		TokenRefreshResponse third = authService.renewalRefreshToken(new TokenRefreshRequest(second.refreshToken()));
+
+		// when & then
+		assertThatThrownBy(() -> authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken())))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOKEN_BLACKLISTED);
+
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(third.refreshToken()))).isEmpty();
+		assertThat(refreshTokenRepository.findAllByMemberId(MEMBER_ID))
+			.extracting("deviceId")
+			.containsExactly("laptop");
+	}
+
+	@Test
+	@DisplayName("토큰 갱신 실패 - 유예 시간이 지난 뒤 교체된 토큰 재사용 시 해당 기기 세션 폐기")
+	void renewalRefreshToken_ReuseAfterGraceRevokesSession() throws InterruptedException {
+		// given
+		jwtProperties.setRefreshReuseGraceSeconds(0);
+		TokenPair tokens = authService.generateAndSaveTokens(MEMBER_ID, "test@example.com", "phone");
+		TokenRefreshResponse rotated = authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken()));
+		Thread.sleep(10);
+
+		// when & then
+		assertThatThrownBy(() -> authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken())))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOKEN_BLACKLISTED);
+
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256(rotated.refreshToken()))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("토큰 갱신 실패 - 한 번도 발급되지 않은 토큰은 REFRESH_TOKEN_NOT_FOUND")
+	void renewalRefreshToken_UnknownToken() {
+		// given
+		TokenPair tokens = authService.generateAndSaveTokens(MEMBER_ID, "test@example.com", "phone");
+		refreshTokenRepository.deleteAll();
+
+		// when & then
+		assertThatThrownBy(() -> authService.renewalRefreshToken(new TokenRefreshRequest(tokens.refreshToken())))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+	}
+
+	@TestConfiguration
+	static class Config {
+
+		@Bean
+		JwtProperties jwtProperties() {
+			JwtProperties jwtProperties = new JwtProperties();
+			jwtProperties.setSecret("test-jwt-secret-key-minimum-256-bits-required-for-hs256-algorithm-security-testing");
+			jwtProperties.setExpiresInSeconds(3600L);
+			jwtProperties.setRefreshExpiresInSeconds(86400L);
+			jwtProperties.setRefreshReuseGraceSeconds(GRACE_SECONDS);
+			return jwtProperties;
+		}
+	}
+}
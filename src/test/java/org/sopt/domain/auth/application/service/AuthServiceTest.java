@@ -0,0 +1,104 @@
+package org.sopt.domain.auth.application.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sopt.domain.auth.application.dto.request.LoginRequest;
+import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
+import org.sopt.domain.auth.domain.repository.RotatedRefreshTokenRepository;
+import org.sopt.domain.member.application.event.MemberPasswordChangedEvent;
+import org.sopt.domain.member.domain.entity.Member;
+import org.sopt.domain.member.domain.repository.MemberRepository;
+import org.sopt.fixture.MemberFixture;
+import org.sopt.global.auth.jwt.AccessTokenRevocationList;
+import org.sopt.global.auth.jwt.JwtProperties;
+import org.sopt.global.auth.jwt.JwtProvider;
+import org.sopt.global.auth.ratelimit.LoginRateLimiter;
+import org.sopt.global.auth.security.PasswordHasher;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+	private static final String EMAIL = "test@example.com";
+	private static final String PASSWORD = "password123!";
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private RotatedRefreshTokenRepository rotatedRefreshTokenRepository;
+
+	@Mock
+	private JwtProvider jwtProvider;
+
+	@Mock
+	private JwtProperties jwtProperties;
+
+	@Mock
+	private PasswordHasher passwordHasher;
+
+	@Mock
+	private AccessTokenRevocationList accessTokenRevocationList;
+
+	@Mock
+	private LoginRateLimiter loginRateLimiter;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private AuthService authService;
+
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		member = MemberFixture.createMemberWithId(1L, EMAIL, "Test User");
+		given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.of(member));
+		given(passwordHasher.matches(PASSWORD, member.getPassword())).willReturn(true);
+		given(passwordHasher.needsUpgrade(member.getPassword())).willReturn(true);
+		given(passwordHasher.encodeInBackground(PASSWORD))
+			.willReturn(CompletableFuture.completedFuture(Optional.of("upgraded-hash")));
+		given(jwtProvider.generateAccessToken(anyLong(), anyString())).willReturn("access-token");
+		given(jwtProvider.generateRefreshToken(anyLong(), anyString(), anyString())).willReturn("refresh-token");
+	}
+
+	@Test
+	@DisplayName("로그인 - 비밀번호 해시 재생성에 성공하면 인증 정보 캐시 무효화 이벤트 발행")
+	void login_PasswordUpgraded_PublishesEvent() {
+		// given
+		given(memberRepository.updatePasswordIfUnchanged(1L, member.getPassword(), "upgraded-hash")).willReturn(1);
+
+		// when
+		authService.login(new LoginRequest(EMAIL, PASSWORD, "phone"), "127.0.0.1");
+
+		// then
+		then(eventPublisher).should().publishEvent(new MemberPasswordChangedEvent(1L, EMAIL));
+	}
+
+	@Test
+	@DisplayName("로그인 - 그 사이 비밀번호가 바뀌어 해시를 갱신하지 못하면 이벤트를 발행하지 않음")
+	void login_PasswordChangedMeanwhile_DoesNotPublishEvent() {
+		// given
+		given(memberRepository.updatePasswordIfUnchanged(1L, member.getPassword(), "upgraded-hash")).willReturn(0);
+
+		// when
+		authService.login(new LoginRequest(EMAIL, PASSWORD, "phone"), "127.0.0.1");
+
+		// then
+		then(eventPublisher).should(never()).publishEvent(any());
+	}
+}
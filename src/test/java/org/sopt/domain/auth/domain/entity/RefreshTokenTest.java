@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.sopt.global.auth.jwt.TokenDigest;
 
 class RefreshTokenTest {
 
@@ -22,7 +23,7 @@ class RefreshTokenTest {
 
 		// then
 		assertThat(refreshToken.getMemberId()).isEqualTo(memberId);
-		assertThat(refreshToken.getToken()).isEqualTo(token);
+		assertThat(refreshToken.getTokenHash()).isEqualTo(TokenDigest.sha256(token));
 		assertThat(refreshToken.getExpiryDate()).isEqualTo(expiryDate);
 		assertThat(refreshToken.isBlacklisted()).isFalse();
 	}
@@ -127,7 +128,7 @@ class RefreshTokenTest {
 		// then
 		assertThat(token1.getMemberId()).isEqualTo(memberId);
 		assertThat(token2.getMemberId()).isEqualTo(memberId);
-		assertThat(token1.getToken()).isNotEqualTo(token2.getToken());
+		assertThat(token1.getTokenHash()).isNotEqualTo(token2.getTokenHash());
 	}
 
 	@Test
@@ -139,8 +140,35 @@ class RefreshTokenTest {
 		RefreshToken token3 = RefreshToken.create(3L, "unique-token-3", LocalDateTime.now().plusDays(1));
 
 		// then
-		assertThat(token1.getToken()).isNotEqualTo(token2.getToken());
-		assertThat(token2.getToken()).isNotEqualTo(token3.getToken());
-		assertThat(token1.getToken()).isNotEqualTo(token3.getToken());
+		assertThat(token1.getTokenHash()).isNotEqualTo(token2.getTokenHash());
+		assertThat(token2.getTokenHash()).isNotEqualTo(token3.getTokenHash());
+		assertThat(token1.getTokenHash()).isNotEqualTo(token3.getTokenHash());
+	}
+
+	@Test
+	@DisplayName("원문 토큰은 저장하지 않고 32바이트 SHA-256 해시만 보관")
+	void create_StoresOnlyFixedLengthHash() {
+		// given
+		String token = "a".repeat(400);
+
+		// when
+		RefreshToken refreshToken = RefreshToken.create(1L, token, LocalDateTime.now().plusDays(1));
+
+		// then
+		assertThat(refreshToken.getTokenHash()).hasSize(32);
+		assertThat(refreshToken.matches(token)).isTrue();
+		assertThat(refreshToken.matches("other-token")).isFalse();
+	}
+
+	@Test
+	@DisplayName("기기 ID를 지정하지 않으면 기본 기기로 생성")
+	void create_DefaultDeviceId() {
+		// when
+		RefreshToken defaultDevice = RefreshToken.create(1L, "token", LocalDateTime.now().plusDays(1));
+		RefreshToken phone = RefreshToken.create(1L, "phone", "phone-token", LocalDateTime.now().plusDays(1));
+
+		// then
+		assertThat(defaultDevice.getDeviceId()).isEqualTo(RefreshToken.DEFAULT_DEVICE_ID);
+		assertThat(phone.getDeviceId()).isEqualTo("phone");
 	}
 }
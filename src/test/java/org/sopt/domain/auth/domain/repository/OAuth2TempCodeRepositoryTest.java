@@ -0,0 +1,97 @@
+package org.sopt.domain.auth.domain.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.annotation.RepositoryTest;
+import org.sopt.domain.auth.domain.entity.OAuth2TempCode;
+import org.sopt.global.auth.jwt.TokenDigest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@RepositoryTest
+class OAuth2TempCodeRepositoryTest {
+
+	@Autowired
+	private OAuth2TempCodeRepository tempCodeRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	@DisplayName("임시 코드 저장 - 원문 대신 해시로 조회")
+	void findActiveByCodeHash_Success() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		tempCodeRepository.save(OAuth2TempCode.create("temp-code", 1L, "test@example.com", now.plusSeconds(30)));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		Optional<OAuth2TempCode> result = tempCodeRepository.findActiveByCodeHash(TokenDigest.sha256("temp-code"), now);
+
+		// then
+		assertThat(result).isPresent();
+		assertThat(result.get().getMemberId()).isEqualTo(1L);
+		assertThat(result.get().getEmail()).isEqualTo("test@example.com");
+		assertThat(result.get().getCodeHash()).hasSize(32);
+	}
+
+	@Test
+	@DisplayName("만료된 임시 코드는 조회되지 않음")
+	void findActiveByCodeHash_Expired() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		tempCodeRepository.save(OAuth2TempCode.create("expired-code", 1L, "test@example.com", now.minusSeconds(1)));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		Optional<OAuth2TempCode> result = tempCodeRepository.findActiveByCodeHash(TokenDigest.sha256("expired-code"), now);
+
+		// then
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@DisplayName("임시 코드 소비 - 첫 삭제만 1건, 이후 0건")
+	void deleteByCodeHash_ConsumeOnce() {
+		// given
+		tempCodeRepository.save(OAuth2TempCode.create("once-code", 1L, "test@example.com",
+			LocalDateTime.now().plusSeconds(30)));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		int first = tempCodeRepository.deleteByCodeHash(TokenDigest.sha256("once-code"));
+		int second = tempCodeRepository.deleteByCodeHash(TokenDigest.sha256("once-code"));
+
+		// then
+		assertThat(first).isEqualTo(1);
+		assertThat(second).isZero();
+	}
+
+	@Test
+	@DisplayName("만료된 임시 코드 청크 삭제")
+	void deleteExpiredChunk() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		tempCodeRepository.save(OAuth2TempCode.create("expired-1", 1L, "a@example.com", now.minusMinutes(2)));
+		tempCodeRepository.save(OAuth2TempCode.create("expired-2", 2L, "b@example.com", now.minusMinutes(1)));
+		tempCodeRepository.save(OAuth2TempCode.create("active", 3L, "c@example.com", now.plusSeconds(30)));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		int deleted = tempCodeRepository.deleteExpiredChunk(now, 10);
+
+		// then
+		assertThat(deleted).isEqualTo(2);
+		assertThat(tempCodeRepository.findAll()).hasSize(1);
+		assertThat(tempCodeRepository.findActiveByCodeHash(TokenDigest.sha256("active"), now)).isPresent();
+	}
+}
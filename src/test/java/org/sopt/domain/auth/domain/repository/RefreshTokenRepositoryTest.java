@@ -3,12 +3,14 @@ package org.sopt.domain.auth.domain.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.sopt.annotation.RepositoryTest;
 import org.sopt.domain.auth.domain.entity.RefreshToken;
+import org.sopt.global.auth.jwt.TokenDigest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -23,7 +25,7 @@ class RefreshTokenRepositoryTest {
 	private TestEntityManager entityManager;
 
 	@Test
-	@DisplayName("토큰 문자열로 RefreshToken 조회 성공")
+	@DisplayName("토큰 해시로 RefreshToken 조회 성공")
 	void findByToken_Success() {
 		// given
 		RefreshToken refreshToken = RefreshToken.create(
@@ -35,11 +37,11 @@ class RefreshTokenRepositoryTest {
 		entityManager.clear();
 
 		// when
-		Optional<RefreshToken> result = refreshTokenRepository.findByToken("test-refresh-token");
+		Optional<RefreshToken> result = refreshTokenRepository.findByTokenHash(TokenDigest.sha256("test-refresh-token"));
 
 		// then
 		assertThat(result).isPresent();
-		assertThat(result.get().getToken()).isEqualTo("test-refresh-token");
+		assertThat(result.get().matches("test-refresh-token")).isTrue();
 		assertThat(result.get().getMemberId()).isEqualTo(1L);
 	}
 
@@ -47,7 +49,7 @@ class RefreshTokenRepositoryTest {
 	@DisplayName("존재하지 않는 토큰으로 조회 시 빈 Optional 반환")
 	void findByToken_NotFound() {
 		// when
-		Optional<RefreshToken> result = refreshTokenRepository.findByToken("nonexistent-token");
+		Optional<RefreshToken> result = refreshTokenRepository.findByTokenHash(TokenDigest.sha256("nonexistent-token"));
 
 		// then
 		assertThat(result).isEmpty();
@@ -55,7 +57,7 @@ class RefreshTokenRepositoryTest {
 
 	@Test
 	@DisplayName("회원 ID로 RefreshToken 조회 성공")
-	void findByMemberId_Success() {
+	void findAllByMemberId_Success() {
 		// given
 		RefreshToken refreshToken = RefreshToken.create(
 			100L,
@@ -66,58 +68,59 @@ class RefreshTokenRepositoryTest {
 		entityManager.clear();
 
 		// when
-		Optional<RefreshToken> result = refreshTokenRepository.findByMemberId(100L);
+		List<RefreshToken> result = refreshTokenRepository.findAllByMemberId(100L);
 
 		// then
-		assertThat(result).isPresent();
-		assertThat(result.get().getMemberId()).isEqualTo(100L);
-		assertThat(result.get().getToken()).isEqualTo("member-100-token");
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getMemberId()).isEqualTo(100L);
+		assertThat(result.get(0).matches("member-100-token")).isTrue();
 	}
 
 	@Test
-	@DisplayName("존재하지 않는 회원 ID로 조회 시 빈 Optional 반환")
-	void findByMemberId_NotFound() {
+	@DisplayName("존재하지 않는 회원 ID로 조회 시 빈 목록 반환")
+	void findAllByMemberId_NotFound() {
 		// when
-		Optional<RefreshToken> result = refreshTokenRepository.findByMemberId(999L);
+		List<RefreshToken> result = refreshTokenRepository.findAllByMemberId(999L);
 
 		// then
 		assertThat(result).isEmpty();
 	}
 
 	@Test
-	@DisplayName("만료 시간 이전의 토큰 삭제 - deleteByExpiryDateBefore")
-	void deleteByExpiryDateBefore() {
+	@DisplayName("만료 토큰 청크 삭제 - 만료된 토큰만 limit 건씩 삭제")
+	void deleteExpiredChunk() {
 		// given
 		LocalDateTime now = LocalDateTime.now();
 
-		// 만료된 토큰 2개
-		RefreshToken expiredToken1 = RefreshToken.create(1L, "expired-token-1", now.minusDays(2));
-		RefreshToken expiredToken2 = RefreshToken.create(2L, "expired-token-2", now.minusHours(1));
+		// 만료된 토큰 3개
+		refreshTokenRepository.save(RefreshToken.create(1L, "expired-token-1", now.minusDays(2)));
+		refreshTokenRepository.save(RefreshToken.create(2L, "expired-token-2", now.minusHours(1)));
+		refreshTokenRepository.save(RefreshToken.create(3L, "expired-token-3", now.minusMinutes(1)));
 
 		// 유효한 토큰 2개
-		RefreshToken validToken1 = RefreshToken.create(3L, "valid-token-1", now.plusDays(1));
-		RefreshToken validToken2 = RefreshToken.create(4L, "valid-token-2", now.plusDays(7));
-
-		refreshTokenRepository.save(expiredToken1);
-		refreshTokenRepository.save(expiredToken2);
+		RefreshToken validToken1 = RefreshToken.create(4L, "valid-token-1", now.plusDays(1));
+		RefreshToken validToken2 = RefreshToken.create(5L, "valid-token-2", now.plusDays(7));
 		refreshTokenRepository.save(validToken1);
 		refreshTokenRepository.save(validToken2);
 
-		Long expiredId1 = expiredToken1.getId();
-		Long expiredId2 = expiredToken2.getId();
 		Long validId1 = validToken1.getId();
 		Long validId2 = validToken2.getId();
 
+		entityManager.flush();
 		entityManager.clear();
 
-		// when - 현재 시간 이전에 만료된 토큰 삭제
-		refreshTokenRepository.deleteByExpiryDateBefore(now);
+		// when - 청크 크기 2로 반복 삭제
+		int firstChunk = refreshTokenRepository.deleteExpiredChunk(now, 2);
+		int secondChunk = refreshTokenRepository.deleteExpiredChunk(now, 2);
+		int thirdChunk = refreshTokenRepository.deleteExpiredChunk(now, 2);
 
 		// then
-		assertThat(refreshTokenRepository.findById(expiredId1)).isEmpty();
-		assertThat(refreshTokenRepository.findById(expiredId2)).isEmpty();
-		assertThat(refreshTokenRepository.findById(validId1)).isPresent();
-		assertThat(refreshTokenRepository.findById(validId2)).isPresent();
+		assertThat(firstChunk).isEqualTo(2);
+		assertThat(secondChunk).isEqualTo(1);
+		assertThat(thirdChunk).isZero();
+		assertThat(refreshTokenRepository.findAll())
+			.extracting(RefreshToken::getId)
+			.containsExactlyInAnyOrder(validId1, validId2);
 	}
 
 	@Test
@@ -135,7 +138,7 @@ class RefreshTokenRepositoryTest {
 
 		// then
 		assertThat(saved.getId()).isNotNull();
-		assertThat(saved.getToken()).isEqualTo("new-refresh-token");
+		assertThat(saved.matches("new-refresh-token")).isTrue();
 		assertThat(saved.getMemberId()).isEqualTo(10L);
 		assertThat(saved.isBlacklisted()).isFalse();
 	}
@@ -233,11 +236,9 @@ class RefreshTokenRepositoryTest {
 		Long oldTokenId = oldToken.getId();
 		entityManager.clear();
 
-		// when - 기존 토큰 조회 및 삭제
-		Optional<RefreshToken> found = refreshTokenRepository.findByMemberId(50L);
-		assertThat(found).isPresent();
-
-		refreshTokenRepository.delete(found.get());
+		// when - 기존 토큰 일괄 삭제
+		int deleted = refreshTokenRepository.deleteAllByMemberId(50L);
+		assertThat(deleted).isEqualTo(1);
 
 		// 새 토큰 저장
 		RefreshToken newToken = RefreshToken.create(
@@ -251,8 +252,196 @@ class RefreshTokenRepositoryTest {
 
 		// then - 기존 토큰은 삭제되고 새 토큰만 존재
 		assertThat(refreshTokenRepository.findById(oldTokenId)).isEmpty();
-		Optional<RefreshToken> currentToken = refreshTokenRepository.findByMemberId(50L);
-		assertThat(currentToken).isPresent();
-		assertThat(currentToken.get().getToken()).isEqualTo("new-token");
+		List<RefreshToken> currentTokens = refreshTokenRepository.findAllByMemberId(50L);
+		assertThat(currentTokens).hasSize(1);
+		assertThat(currentTokens.get(0).matches("new-token")).isTrue();
+	}
+
+	@Test
+	@DisplayName("조건부 블랙리스트 처리 - 활성 토큰은 1건 갱신, 이미 블랙리스트된 토큰은 0건")
+	void blacklistIfActive_CompareAndSet() {
+		// given
+		RefreshToken refreshToken = RefreshToken.create(60L, "rotate-token", LocalDateTime.now().plusDays(1));
+		refreshTokenRepository.save(refreshToken);
+		entityManager.flush();
+		entityManager.clear();
+
+		byte[] tokenHash = TokenDigest.sha256("rotate-token");
+
+		// when
+		int first = refreshTokenRepository.blacklistIfActive(tokenHash);
+		int second = refreshTokenRepository.blacklistIfActive(tokenHash);
+
+		// then
+		assertThat(first).isEqualTo(1);
+		assertThat(second).isZero();
+		assertThat(refreshTokenRepository.findByTokenHash(tokenHash).get().isBlacklisted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 토큰의 조건부 블랙리스트 처리는 0건")
+	void blacklistIfActive_NotFound() {
+		// when
+		int updated = refreshTokenRepository.blacklistIfActive(TokenDigest.sha256("unknown-token"));
+
+		// then
+		assertThat(updated).isZero();
+	}
+
+	@Test
+	@DisplayName("토큰 갱신 - 활성 토큰만 같은 세션 행의 해시를 교체하고, 교체된 해시로는 다시 갱신 불가")
+	void rotate_CompareAndSet() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		refreshTokenRepository.upsert(65L, "phone", TokenDigest.sha256("old-token"), now.plusDays(1), now);
+		Long sessionId = refreshTokenRepository.findByTokenHash(TokenDigest.sha256("old-token")).get().getId();
+
+		// when
+		int first = refreshTokenRepository.rotate(TokenDigest.sha256("old-token"), TokenDigest.sha256("new-token"),
+			now.plusDays(2), now);
+		int second = refreshTokenRepository.rotate(TokenDigest.sha256("old-token"), TokenDigest.sha256("other-token"),
+			now.plusDays(2), now);
+
+		// then
+		assertThat(first).isEqualTo(1);
+		assertThat(second).isZero();
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("old-token"))).isEmpty();
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("new-token")))
+			.hasValueSatisfying(session -> assertThat(session.getId()).isEqualTo(sessionId));
+	}
+
+	@Test
+	@DisplayName("토큰 갱신과 같은 기기 재로그인은 세션 생성 시각을 유지하고 발급 시각만 갱신")
+	void rotateAndUpsert_KeepCreatedAt() {
+		// given
+		LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+		LocalDateTime rotatedAt = createdAt.plusHours(1);
+		LocalDateTime reissuedAt = createdAt.plusHours(2);
+		refreshTokenRepository.upsert(67L, "phone", TokenDigest.sha256("first-token"), createdAt.plusDays(1),
+			createdAt);
+
+		// when
+		refreshTokenRepository.rotate(TokenDigest.sha256("first-token"), TokenDigest.sha256("rotated-token"),
+			rotatedAt.plusDays(1), rotatedAt);
+		RefreshToken afterRotation = refreshTokenRepository.findByTokenHash(TokenDigest.sha256("rotated-token")).get();
+		refreshTokenRepository.upsert(67L, "phone", TokenDigest.sha256("relogin-token"), reissuedAt.plusDays(1),
+			reissuedAt);
+		RefreshToken afterRelogin = refreshTokenRepository.findByTokenHash(TokenDigest.sha256("relogin-token")).get();
+
+		// then
+		assertThat(afterRotation.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(afterRotation.getLastIssuedAt()).isEqualTo(rotatedAt);
+		assertThat(afterRelogin.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(afterRelogin.getLastIssuedAt()).isEqualTo(reissuedAt);
+	}
+
+	@Test
+	@DisplayName("토큰 갱신 - 로그아웃으로 블랙리스트된 토큰은 교체 불가")
+	void rotate_RejectsBlacklisted() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		refreshTokenRepository.upsert(66L, "phone", TokenDigest.sha256("logged-out-token"), now.plusDays(1), now);
+		refreshTokenRepository.blacklistIfActive(TokenDigest.sha256("logged-out-token"));
+
+		// when
+		int updated = refreshTokenRepository.rotate(TokenDigest.sha256("logged-out-token"),
+			TokenDigest.sha256("new-token"), now.plusDays(2), now);
+
+		// then
+		assertThat(updated).isZero();
+	}
+
+	@Test
+	@DisplayName("세션 upsert - 같은 회원/기기는 교체, 다른 기기는 유지")
+	void upsert_ReplacesSameDeviceOnly() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		refreshTokenRepository.upsert(70L, "phone", TokenDigest.sha256("phone-token-1"), now.plusDays(1), now);
+		refreshTokenRepository.upsert(70L, "tablet", TokenDigest.sha256("tablet-token"), now.plusDays(1), now);
+
+		// when - 같은 기기로 다시 로그인
+		refreshTokenRepository.upsert(70L, "phone", TokenDigest.sha256("phone-token-2"), now.plusDays(2), now);
+
+		// then
+		List<RefreshToken> tokens = refreshTokenRepository.findAllByMemberId(70L);
+		assertThat(tokens).hasSize(2);
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("phone-token-1"))).isEmpty();
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("phone-token-2"))).isPresent();
+		assertThat(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("tablet-token"))).isPresent();
+	}
+
+	@Test
+	@DisplayName("세션 upsert - 블랙리스트된 기기 세션도 새 토큰으로 교체되며 블랙리스트 해제")
+	void upsert_ResetsBlacklistedSession() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		refreshTokenRepository.upsert(71L, "phone", TokenDigest.sha256("old-token"), now.plusDays(1), now);
+		refreshTokenRepository.blacklistIfActive(TokenDigest.sha256("old-token"));
+
+		// when
+		refreshTokenRepository.upsert(71L, "phone", TokenDigest.sha256("rotated-token"), now.plusDays(1), now);
+
+		// then
+		RefreshToken rotated = refreshTokenRepository.findByTokenHash(TokenDigest.sha256("rotated-token")).get();
+		assertThat(rotated.isBlacklisted()).isFalse();
+		assertThat(rotated.getDeviceId()).isEqualTo("phone");
+	}
+
+	@Test
+	@DisplayName("활성 세션 조회 - 블랙리스트/만료 세션 제외")
+	void findActiveSessions_ExcludesBlacklistedAndExpired() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		refreshTokenRepository.save(RefreshToken.create(80L, "phone", "active-token", now.plusDays(1)));
+		refreshTokenRepository.save(RefreshToken.create(80L, "tablet", "expired-token", now.minusDays(1)));
+		RefreshToken blacklisted = RefreshToken.create(80L, "laptop", "blacklisted-token", now.plusDays(1));
+		blacklisted.markAsBlacklisted();
+		refreshTokenRepository.save(blacklisted);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		List<RefreshToken> sessions = refreshTokenRepository.findActiveSessions(80L, now);
+
+		// then
+		assertThat(sessions).hasSize(1);
+		assertThat(sessions.get(0).getDeviceId()).isEqualTo("phone");
+	}
+
+	@Test
+	@DisplayName("기기별 세션 삭제")
+	void deleteByMemberIdAndDeviceId() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		refreshTokenRepository.save(RefreshToken.create(90L, "phone", "phone-token", now.plusDays(1)));
+		refreshTokenRepository.save(RefreshToken.create(90L, "tablet", "tablet-token", now.plusDays(1)));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		int deleted = refreshTokenRepository.deleteByMemberIdAndDeviceId(90L, "phone");
+		int notFound = refreshTokenRepository.deleteByMemberIdAndDeviceId(90L, "watch");
+
+		// then
+		assertThat(deleted).isEqualTo(1);
+		assertThat(notFound).isZero();
+		assertThat(refreshTokenRepository.findAllByMemberId(90L))
+			.extracting(RefreshToken::getDeviceId)
+			.containsExactly("tablet");
+	}
+
+	@Test
+	@DisplayName("같은 회원/기기 세션 중복 저장 시 unique constraint 위반")
+	void saveWithDuplicateMemberDevice_ThrowsException() {
+		// given
+		refreshTokenRepository.save(RefreshToken.create(95L, "phone", "token-a", LocalDateTime.now().plusDays(1)));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when & then
+		assertThatThrownBy(() -> {
+			refreshTokenRepository.save(RefreshToken.create(95L, "phone", "token-b", LocalDateTime.now().plusDays(1)));
+			entityManager.flush();
+		}).isInstanceOf(DataIntegrityViolationException.class);
 	}
 }
@@ -0,0 +1,64 @@
+package org.sopt.domain.auth.domain.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.annotation.RepositoryTest;
+import org.sopt.domain.auth.domain.entity.RotatedRefreshToken;
+import org.sopt.global.auth.jwt.TokenDigest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@RepositoryTest
+class RotatedRefreshTokenRepositoryTest {
+
+	@Autowired
+	private RotatedRefreshTokenRepository rotatedRefreshTokenRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	@DisplayName("교체된 토큰 해시로 조회 성공")
+	void findByTokenHash_Success() {
+		// given
+		rotatedRefreshTokenRepository.save(RotatedRefreshToken.create(TokenDigest.sha256("old-token"),
+			TokenDigest.sha256("new-token"), 1L, "phone", LocalDateTime.now().plusDays(1), LocalDateTime.now()));
+		entityManager.clear();
+
+		// when & then
+		assertThat(rotatedRefreshTokenRepository.findByTokenHash(TokenDigest.sha256("old-token")))
+			.hasValueSatisfying(rotated -> {
+				assertThat(rotated.getMemberId()).isEqualTo(1L);
+				assertThat(rotated.getDeviceId()).isEqualTo("phone");
+				assertThat(rotated.getReplacedByHash()).isEqualTo(TokenDigest.sha256("new-token"));
+			});
+		assertThat(rotatedRefreshTokenRepository.findByTokenHash(TokenDigest.sha256("new-token"))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("만료된 교체 토큰만 청크 단위로 삭제")
+	void deleteExpiredChunk_DeletesOnlyExpired() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < 3; i++) {
+			rotatedRefreshTokenRepository.save(RotatedRefreshToken.create(TokenDigest.sha256("expired-" + i),
+				TokenDigest.sha256("replacement-" + i), 1L, "phone", now.minusDays(1), now.minusDays(2)));
+		}
+		rotatedRefreshTokenRepository.save(RotatedRefreshToken.create(TokenDigest.sha256("active"),
+			TokenDigest.sha256("replacement"), 1L, "phone", now.plusDays(1), now));
+		entityManager.flush();
+
+		// when
+		int firstChunk = rotatedRefreshTokenRepository.deleteExpiredChunk(now, 2);
+		int secondChunk = rotatedRefreshTokenRepository.deleteExpiredChunk(now, 2);
+
+		// then
+		assertThat(firstChunk).isEqualTo(2);
+		assertThat(secondChunk).isEqualTo(1);
+		assertThat(rotatedRefreshTokenRepository.findAll()).hasSize(1);
+	}
+}
@@ -28,9 +28,10 @@ import org.sopt.fixture.CommentFixture;
 import org.sopt.fixture.MemberFixture;
 import org.sopt.global.response.error.ErrorCode;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 
@@ -166,18 +167,45 @@ class CommentServiceTest {
 		Comment comment2 = CommentFixture.createComment(article, author);
 
 		Pageable pageable = PageRequest.of(0, 10);
-		Page<Comment> commentPage = new PageImpl<>(List.of(comment1, comment2), pageable, 2);
+		Slice<Comment> commentSlice = new SliceImpl<>(List.of(comment1, comment2), pageable, false);
 
-		given(commentRepository.findByAuthorIdWithArticle(authorId, pageable)).willReturn(commentPage);
+		given(commentRepository.findByAuthorIdWithArticle(authorId, pageable)).willReturn(commentSlice);
 
 		// when
-		Page<CommentResponse> result = commentService.getMyComments(authorId, pageable);
+		Slice<CommentResponse> result = commentService.getMyComments(authorId, pageable, false);
 
 		// then
 		assertThat(result.getContent()).hasSize(2);
-		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(result.hasNext()).isFalse();
+		assertThat(result).isNotInstanceOf(Page.class);
 
 		verify(commentRepository).findByAuthorIdWithArticle(authorId, pageable);
+		verify(commentRepository, never()).countByAuthorId(anyLong());
+	}
+
+	@Test
+	@DisplayName("내가 작성한 댓글 목록 조회 - 캐시된 전체 건수 포함")
+	void getMyComments_WithTotal() {
+		// given
+		Long authorId = 1L;
+		Member author = MemberFixture.createMemberWithId(authorId, "author@example.com", "Author");
+		Article article = ArticleFixture.createArticleWithId(100L, author, "Test Article");
+		Comment comment1 = CommentFixture.createComment(article, author);
+		Comment comment2 = CommentFixture.createComment(article, author);
+
+		Pageable pageable = PageRequest.of(0, 2);
+		Slice<Comment> commentSlice = new SliceImpl<>(List.of(comment1, comment2), pageable, true);
+
+		given(commentRepository.findByAuthorIdWithArticle(authorId, pageable)).willReturn(commentSlice);
+		given(commentRepository.countByAuthorId(authorId)).willReturn(5L);
+
+		// when
+		Slice<CommentResponse> result = commentService.getMyComments(authorId, pageable, true);
+
+		// then
+		assertThat(result).isInstanceOf(Page.class);
+		assertThat(((Page<CommentResponse>)result).getTotalElements()).isEqualTo(5);
+		assertThat(result.hasNext()).isTrue();
 	}
 
 	@Test
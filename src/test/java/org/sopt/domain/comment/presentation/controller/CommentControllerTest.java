@@ -158,10 +158,11 @@ class CommentControllerTest {
 		Pageable pageable = PageRequest.of(0, 20);
 		Page<CommentResponse> page = new PageImpl<>(List.of(response1, response2), pageable, 2);
 
-		given(commentService.getMyComments(eq(1L), any(Pageable.class))).willReturn(page);
+		given(commentService.getMyComments(eq(1L), any(Pageable.class), eq(true))).willReturn(page);
 
 		// when & then
 		mockMvc.perform(get("/comments/me")
+				.param("withTotal", "true")
 				.param("page", "0")
 				.param("size", "20"))
 			.andExpect(status().isOk())
@@ -169,7 +170,7 @@ class CommentControllerTest {
 			.andExpect(jsonPath("$.content.length()").value(2))
 			.andExpect(jsonPath("$.totalElements").value(2));
 
-		verify(commentService).getMyComments(eq(1L), any(Pageable.class));
+		verify(commentService).getMyComments(eq(1L), any(Pageable.class), eq(true));
 	}
 
 	@Test
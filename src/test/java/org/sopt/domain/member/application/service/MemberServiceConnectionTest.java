@@ -0,0 +1,83 @@
+package org.sopt.domain.member.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.annotation.RepositoryTest;
+import org.sopt.config.ConnectionProbingPasswordEncoder;
+import org.sopt.domain.member.application.dto.MemberCreateRequest;
+import org.sopt.domain.member.domain.entity.Gender;
+import org.sopt.domain.member.domain.repository.MemberRepository;
+import org.sopt.domain.member.domain.service.MemberValidator;
+import org.sopt.global.auth.security.PasswordHasher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 가입 시 bcrypt 계산 동안 DB 커넥션을 점유하지 않는지 검증한다.
+ * 서비스 트랜잭션 경계를 그대로 확인하기 위해 테스트 자체는 트랜잭션 없이 실행한다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MemberService.class, MemberValidator.class, MemberServiceConnectionTest.Config.class})
+class MemberServiceConnectionTest {
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private ConnectionProbingPasswordEncoder passwordEncoder;
+
+	@AfterEach
+	void tearDown() {
+		memberRepository.deleteAll();
+		passwordEncoder.reset();
+	}
+
+	@Test
+	@DisplayName("회원 가입 - 비밀번호 해시 중에는 사용 중인 커넥션이 없음")
+	void create_NoConnectionHeldWhileHashing() {
+		// given
+		MemberCreateRequest request = new MemberCreateRequest(
+			"Test User",
+			"password123!",
+			LocalDate.of(2000, 1, 1),
+			"connection@example.com",
+			Gender.MALE
+		);
+
+		// when
+		memberService.create(request);
+
+		// then
+		assertThat(passwordEncoder.getActiveConnections()).containsExactly(0);
+		assertThat(memberRepository.existsByEmail("connection@example.com")).isTrue();
+	}
+
+	@TestConfiguration
+	static class Config {
+
+		@Bean
+		ConnectionProbingPasswordEncoder connectionProbingPasswordEncoder(DataSource dataSource) {
+			return new ConnectionProbingPasswordEncoder(dataSource);
+		}
+
+		@Bean
+		PasswordHasher passwordHasher(ConnectionProbingPasswordEncoder passwordEncoder) {
+			return new PasswordHasher(passwordEncoder, 1, 4);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package org.sopt.domain.member.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.annotation.RepositoryTest;
+import org.sopt.domain.auth.domain.entity.RefreshToken;
+import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
+import org.sopt.domain.member.domain.entity.Member;
+import org.sopt.domain.member.domain.repository.MemberRepository;
+import org.sopt.domain.member.domain.service.MemberValidator;
+import org.sopt.fixture.MemberFixture;
+import org.sopt.global.auth.jwt.AccessTokenRevocationList;
+import org.sopt.global.auth.security.CustomUserDetailsService;
+import org.sopt.global.auth.security.PasswordHasher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원 탈퇴가 실제 DB에 반영되는지 검증한다.
+ * 서비스 트랜잭션이 커밋된 결과를 확인하기 위해 테스트 자체는 트랜잭션 없이 실행한다.
+ */
+@RepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MemberService.class, MemberValidator.class, CustomUserDetailsService.class})
+class MemberServiceDeleteTest {
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@MockBean
+	private PasswordHasher passwordHasher;
+
+	@MockBean
+	private AccessTokenRevocationList accessTokenRevocationList;
+
+	@AfterEach
+	void tearDown() {
+		refreshTokenRepository.deleteAll();
+		memberRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("회원 탈퇴 - 회원과 모든 기기의 Refresh Token이 함께 삭제됨")
+	void deleteMember_RemovesMemberAndTokens() {
+		// given
+		Member member = memberRepository.save(MemberFixture.createLocalMember("delete@example.com", "Delete User"));
+		LocalDateTime expiryDate = LocalDateTime.now().plusDays(1);
+		refreshTokenRepository.save(RefreshToken.create(member.getId(), "phone", "phone-token", expiryDate));
+		refreshTokenRepository.save(RefreshToken.create(member.getId(), "tablet", "tablet-token", expiryDate));
+
+		// when
+		memberService.deleteMember(member.getId());
+
+		// then
+		assertThat(memberRepository.findById(member.getId())).isEmpty();
+		assertThat(refreshTokenRepository.findAllByMemberId(member.getId())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("회원 탈퇴 - 커밋 이후에 기존 Access Token을 폐기함")
+	void deleteMember_RevokesAccessTokensAfterCommit() {
+		// given
+		Member member = memberRepository.save(MemberFixture.createLocalMember("revoke@example.com", "Revoke User"));
+
+		// when
+		memberService.deleteMember(member.getId());
+
+		// then
+		then(accessTokenRevocationList).should().revokeAllIssuedBefore(eq(member.getId()), any(Instant.class));
+	}
+
+	@Test
+	@DisplayName("회원 탈퇴 - 트랜잭션이 롤백되면 Access Token을 폐기하지 않음")
+	void deleteMember_RollbackKeepsAccessTokens() {
+		// given
+		Member member = memberRepository.save(MemberFixture.createLocalMember("rollback@example.com", "Rollback User"));
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			memberService.deleteMember(member.getId());
+			status.setRollbackOnly();
+		});
+
+		// then
+		assertThat(memberRepository.findById(member.getId())).isPresent();
+		then(accessTokenRevocationList).should(never()).revokeAllIssuedBefore(anyLong(), any());
+	}
+}
@@ -12,9 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
 import org.sopt.domain.member.application.dto.MemberCreateRequest;
 import org.sopt.domain.member.application.dto.MemberResponse;
 import org.sopt.domain.member.application.dto.SocialMemberCreateRequest;
+import org.sopt.domain.member.application.event.MemberDeletedEvent;
 import org.sopt.domain.member.domain.entity.Gender;
 import org.sopt.domain.member.domain.entity.Member;
 import org.sopt.domain.member.domain.entity.SocialProvider;
@@ -22,13 +24,15 @@ import org.sopt.domain.member.domain.repository.MemberRepository;
 import org.sopt.domain.member.domain.service.MemberValidator;
 import org.sopt.domain.member.exception.MemberException;
 import org.sopt.fixture.MemberFixture;
+import org.sopt.global.auth.security.PasswordHasher;
 import org.sopt.global.response.error.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 
@@ -38,11 +42,17 @@ class MemberServiceTest {
 	@Mock
 	private MemberRepository memberRepository;
 
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
 	@Mock
 	private MemberValidator memberValidator;
 
 	@Mock
-	private PasswordEncoder passwordEncoder;
+	private PasswordHasher passwordHasher;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	private MemberService memberService;
@@ -63,7 +73,7 @@ class MemberServiceTest {
 		Member member = MemberFixture.createLocalMember(request.email(), request.name());
 
 		given(memberRepository.existsByEmail(request.email())).willReturn(false);
-		given(passwordEncoder.encode(request.password())).willReturn(encodedPassword);
+		given(passwordHasher.encode(request.password())).willReturn(encodedPassword);
 		given(memberValidator.createValidatedMember(encodedPassword, request.name(), request.birthDate(),
 			request.email(), request.gender())).willReturn(member);
 		given(memberRepository.save(any(Member.class))).willReturn(member);
@@ -77,7 +87,7 @@ class MemberServiceTest {
 		assertThat(response.name()).isEqualTo(request.name());
 
 		verify(memberRepository).existsByEmail(request.email());
-		verify(passwordEncoder).encode(request.password());
+		verify(passwordHasher).encode(request.password());
 		verify(memberValidator).createValidatedMember(encodedPassword, request.name(), request.birthDate(),
 			request.email(), request.gender());
 		verify(memberRepository).save(any(Member.class));
@@ -103,10 +113,35 @@ class MemberServiceTest {
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_EMAIL);
 
 		verify(memberRepository).existsByEmail(request.email());
-		verify(passwordEncoder, never()).encode(anyString());
+		verify(passwordHasher, never()).encode(anyString());
 		verify(memberRepository, never()).save(any());
 	}
 
+	@Test
+	@DisplayName("로컬 회원 생성 실패 - 중복 확인 이후 동시에 가입된 이메일")
+	void create_DuplicateEmailOnSave() {
+		// given
+		MemberCreateRequest request = new MemberCreateRequest(
+			"Test User",
+			"password123",
+			LocalDate.of(2000, 1, 1),
+			"race@example.com",
+			Gender.MALE
+		);
+		Member member = MemberFixture.createLocalMember(request.email(), request.name());
+
+		given(memberRepository.existsByEmail(request.email())).willReturn(false);
+		given(passwordHasher.encode(request.password())).willReturn("encodedPassword123");
+		given(memberValidator.createValidatedMember("encodedPassword123", request.name(), request.birthDate(),
+			request.email(), request.gender())).willReturn(member);
+		given(memberRepository.save(any(Member.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+		// when & then
+		assertThatThrownBy(() -> memberService.create(request))
+			.isInstanceOf(MemberException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_EMAIL);
+	}
+
 	@Test
 	@DisplayName("ID로 회원 조회 성공")
 	void getMemberById_Success() {
@@ -150,20 +185,43 @@ class MemberServiceTest {
 		Member member2 = MemberFixture.createLocalMember("user2@example.com", "User2", Gender.FEMALE);
 
 		Pageable pageable = PageRequest.of(0, 10);
-		Page<Member> memberPage = new PageImpl<>(List.of(member1, member2), pageable, 2);
+		Slice<Member> memberSlice = new SliceImpl<>(List.of(member1, member2), pageable, false);
 
-		given(memberRepository.findAll(pageable)).willReturn(memberPage);
+		given(memberRepository.findSlice(pageable)).willReturn(memberSlice);
 
 		// when
-		Page<MemberResponse> result = memberService.findAllMembers(pageable);
+		Slice<MemberResponse> result = memberService.findAllMembers(pageable, false);
 
 		// then
 		assertThat(result.getContent()).hasSize(2);
-		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(result.hasNext()).isFalse();
 		assertThat(result.getContent().get(0).email()).isEqualTo("user1@example.com");
 		assertThat(result.getContent().get(1).email()).isEqualTo("user2@example.com");
 
-		verify(memberRepository).findAll(pageable);
+		verify(memberRepository).findSlice(pageable);
+		verify(memberRepository, never()).countAll();
+	}
+
+	@Test
+	@DisplayName("모든 회원 조회 - 캐시된 전체 건수가 현재 조회 결과보다 작으면 보정")
+	void findAllMembers_WithStaleTotal() {
+		// given
+		Member member1 = MemberFixture.createLocalMember("user1@example.com", "User1");
+		Member member2 = MemberFixture.createLocalMember("user2@example.com", "User2", Gender.FEMALE);
+
+		Pageable pageable = PageRequest.of(1, 2);
+		Slice<Member> memberSlice = new SliceImpl<>(List.of(member1, member2), pageable, true);
+
+		given(memberRepository.findSlice(pageable)).willReturn(memberSlice);
+		given(memberRepository.countAll()).willReturn(3L);
+
+		// when
+		Slice<MemberResponse> result = memberService.findAllMembers(pageable, true);
+
+		// then
+		Page<MemberResponse> page = (Page<MemberResponse>)result;
+		assertThat(page.getTotalElements()).isEqualTo(5);
+		assertThat(page.hasNext()).isTrue();
 	}
 
 	@Test
@@ -171,7 +229,7 @@ class MemberServiceTest {
 	void deleteMember_Success() {
 		// given
 		Long memberId = 1L;
-		Member member = MemberFixture.createLocalMember("test@example.com", "Test User");
+		Member member = MemberFixture.createMemberWithId(memberId, "test@example.com", "Test User");
 
 		given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
 		willDoNothing().given(memberRepository).delete(member);
@@ -182,6 +240,8 @@ class MemberServiceTest {
 		// then
 		verify(memberRepository).findById(memberId);
 		verify(memberRepository).delete(member);
+		verify(refreshTokenRepository).deleteAllByMemberId(memberId);
+		verify(eventPublisher).publishEvent(new MemberDeletedEvent(memberId, "test@example.com"));
 	}
 
 	@Test
@@ -198,6 +258,7 @@ class MemberServiceTest {
 
 		verify(memberRepository).findById(memberId);
 		verify(memberRepository, never()).delete(any());
+		verify(eventPublisher, never()).publishEvent(any());
 	}
 
 	@Test
@@ -246,7 +307,6 @@ class MemberServiceTest {
 
 		given(memberRepository.findByProviderAndProviderId(request.provider(), request.providerId()))
 			.willReturn(Optional.empty());
-		given(memberRepository.existsByEmail(request.email())).willReturn(false);
 		given(memberRepository.save(any(Member.class))).willReturn(newMember);
 
 		// when
@@ -258,7 +318,36 @@ class MemberServiceTest {
 		assertThat(result.getProvider()).isEqualTo(request.provider());
 
 		verify(memberRepository).findByProviderAndProviderId(request.provider(), request.providerId());
-		verify(memberRepository).existsByEmail(request.email());
+		verify(memberRepository, never()).existsByEmail(anyString());
+		verify(memberRepository).save(any(Member.class));
+	}
+
+	@Test
+	@DisplayName("소셜 회원 생성 - 동시 최초 로그인으로 이미 가입된 경우 기존 회원 반환")
+	void getOrCreateSocialMember_ConcurrentFirstLogin() {
+		// given
+		SocialMemberCreateRequest request = new SocialMemberCreateRequest(
+			"concurrent@example.com",
+			"Concurrent User",
+			SocialProvider.KAKAO,
+			"kakao-999",
+			null
+		);
+
+		Member existingMember = MemberFixture.createSocialMember(request.email(), request.name(), request.provider());
+
+		given(memberRepository.findByProviderAndProviderId(request.provider(), request.providerId()))
+			.willReturn(Optional.empty())
+			.willReturn(Optional.of(existingMember));
+		given(memberRepository.save(any(Member.class)))
+			.willThrow(new DataIntegrityViolationException("uk_member_provider_provider_id"));
+
+		// when
+		Member result = memberService.getOrCreateSocialMember(request);
+
+		// then
+		assertThat(result).isEqualTo(existingMember);
+		verify(memberRepository, times(2)).findByProviderAndProviderId(request.provider(), request.providerId());
 		verify(memberRepository).save(any(Member.class));
 	}
 
@@ -276,15 +365,15 @@ class MemberServiceTest {
 
 		given(memberRepository.findByProviderAndProviderId(request.provider(), request.providerId()))
 			.willReturn(Optional.empty());
-		given(memberRepository.existsByEmail(request.email())).willReturn(true);
+		given(memberRepository.save(any(Member.class)))
+			.willThrow(new DataIntegrityViolationException("email unique constraint"));
 
 		// when & then
 		assertThatThrownBy(() -> memberService.getOrCreateSocialMember(request))
 			.isInstanceOf(MemberException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_EMAIL);
 
-		verify(memberRepository).findByProviderAndProviderId(request.provider(), request.providerId());
-		verify(memberRepository).existsByEmail(request.email());
-		verify(memberRepository, never()).save(any());
+		verify(memberRepository, times(2)).findByProviderAndProviderId(request.provider(), request.providerId());
+		verify(memberRepository, never()).existsByEmail(anyString());
 	}
 }
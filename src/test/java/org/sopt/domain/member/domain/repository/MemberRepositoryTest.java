@@ -141,4 +141,56 @@ class MemberRepositoryTest {
 		Optional<Member> result = memberRepository.findById(memberId);
 		assertThat(result).isEmpty();
 	}
+
+	@Test
+	@DisplayName("비밀번호 해시 교체 - 읽은 해시와 같을 때만 갱신")
+	void updatePasswordIfUnchanged() {
+		// given
+		Member member = MemberFixture.createLocalMember("rehash@example.com", "Rehash User");
+		memberRepository.save(member);
+		String oldHash = member.getPassword();
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		int updated = memberRepository.updatePasswordIfUnchanged(member.getId(), oldHash, "new-hash");
+		int stale = memberRepository.updatePasswordIfUnchanged(member.getId(), oldHash, "stale-hash");
+
+		// then
+		assertThat(updated).isEqualTo(1);
+		assertThat(stale).isZero();
+		assertThat(memberRepository.findById(member.getId()).get().getPassword()).isEqualTo("new-hash");
+	}
+
+	@Test
+	@DisplayName("같은 소셜 계정(provider, providerId) 중복 저장 시 unique constraint 위반")
+	void saveWithDuplicateSocialAccount_ThrowsException() {
+		// given
+		memberRepository.save(Member.createSocialMember("first@example.com", "First", SocialProvider.KAKAO,
+			"kakao-dup", null));
+		entityManager.flush();
+		entityManager.clear();
+
+		// when & then
+		assertThatThrownBy(() -> {
+			memberRepository.save(Member.createSocialMember("second@example.com", "Second", SocialProvider.KAKAO,
+				"kakao-dup", null));
+			entityManager.flush();
+		}).isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	@DisplayName("로컬 회원은 providerId가 없어도 여러 명 저장 가능")
+	void saveMultipleLocalMembers_Success() {
+		// given
+		memberRepository.save(MemberFixture.createLocalMember("local1@example.com", "Local One"));
+		memberRepository.save(MemberFixture.createLocalMember("local2@example.com", "Local Two"));
+
+		// when
+		entityManager.flush();
+
+		// then
+		assertThat(memberRepository.existsByEmail("local1@example.com")).isTrue();
+		assertThat(memberRepository.existsByEmail("local2@example.com")).isTrue();
+	}
 }
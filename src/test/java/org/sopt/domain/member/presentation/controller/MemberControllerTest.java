@@ -15,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.sopt.config.MockArgumentResolver;
+import org.sopt.domain.auth.exception.AuthException;
 import org.sopt.domain.member.application.dto.MemberCreateRequest;
 import org.sopt.domain.member.application.dto.MemberResponse;
 import org.sopt.domain.member.application.service.MemberService;
@@ -160,6 +161,29 @@ class MemberControllerTest {
 		verify(memberService).create(any(MemberCreateRequest.class));
 	}
 
+	@Test
+	@DisplayName("회원 가입 실패 - 비밀번호 해시 대기열 초과 시 재시도 가능한 503")
+	void createMember_AuthServerBusy() throws Exception {
+		// given
+		MemberCreateRequest request = new MemberCreateRequest(
+			"Test User",
+			"password123!",
+			LocalDate.of(2000, 1, 1),
+			"busy@example.com",
+			Gender.MALE
+		);
+
+		given(memberService.create(any(MemberCreateRequest.class)))
+			.willThrow(new AuthException(ErrorCode.AUTH_SERVER_BUSY));
+
+		// when & then
+		mockMvc.perform(post("/members")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().exists("Retry-After"));
+	}
+
 	@Test
 	@DisplayName("전체 회원 조회 - 페이징")
 	void getAllMembers_Success() throws Exception {
@@ -172,10 +196,11 @@ class MemberControllerTest {
 
 		Page<MemberResponse> page = new PageImpl<>(List.of(response1, response2), PageRequest.of(0, 20), 2);
 
-		given(memberService.findAllMembers(any())).willReturn(page);
+		given(memberService.findAllMembers(any(), eq(true))).willReturn(page);
 
 		// when & then
 		mockMvc.perform(get("/members")
+				.param("withTotal", "true")
 				.param("page", "0")
 				.param("size", "20"))
 			.andExpect(status().isOk())
@@ -185,7 +210,7 @@ class MemberControllerTest {
 			.andExpect(jsonPath("$.content[1].email").value("user2@example.com"))
 			.andExpect(jsonPath("$.totalElements").value(2));
 
-		verify(memberService).findAllMembers(any());
+		verify(memberService).findAllMembers(any(), eq(true));
 	}
 
 	@Test
@@ -0,0 +1,132 @@
+package org.sopt.global.auth.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenRevocationListTest {
+
+	private static final long TTL_SECONDS = 120;
+	// 토큰 수명 2분 + 경계 버킷 2개
+	private static final int SLOTS = 4;
+	private static final Duration RING = Duration.ofSeconds(SLOTS * 60L);
+
+	private AccessTokenRevocationList revocationList;
+
+	@BeforeEach
+	void setUp() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setExpiresInSeconds(TTL_SECONDS);
+		revocationList = new AccessTokenRevocationList(jwtProperties);
+	}
+
+	@Test
+	@DisplayName("폐기한 토큰만 만료 전까지 거절하고 같은 버킷의 다른 토큰은 허용")
+	void revoke_RejectsOnlyRevokedToken() {
+		// given
+		Instant expiresAt = Instant.now().plusSeconds(TTL_SECONDS);
+		JwtClaims revoked = claims(1L, "revoked-jti", expiresAt.minusSeconds(TTL_SECONDS), expiresAt);
+		JwtClaims other = claims(1L, "other-jti", expiresAt.minusSeconds(TTL_SECONDS), expiresAt);
+
+		// when
+		revocationList.revoke(revoked);
+
+		// then
+		assertThat(revocationList.isRevoked(revoked)).isTrue();
+		assertThat(revocationList.isRevoked(other)).isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 만료된 토큰은 폐기 목록에 남기지 않음")
+	void revoke_IgnoresExpiredToken() {
+		// given
+		Instant expiresAt = Instant.now().minusSeconds(180);
+		JwtClaims expired = claims(1L, "expired-jti", expiresAt.minusSeconds(TTL_SECONDS), expiresAt);
+
+		// when
+		revocationList.revoke(expired);
+
+		// then
+		assertThat(revocationList.isRevoked(expired)).isFalse();
+	}
+
+	@Test
+	@DisplayName("링이 한 바퀴 돌면 같은 슬롯의 버킷을 새 주기로 교체하고 이전 토큰은 버림")
+	void revoke_ReusesSlotAfterRingWraps() {
+		// given
+		Instant expiresAt = Instant.now().plusSeconds(60);
+		JwtClaims previousCycle = claims(1L, "previous-jti", expiresAt.minusSeconds(TTL_SECONDS), expiresAt);
+		JwtClaims nextCycle = claims(2L, "next-jti", expiresAt.plus(RING).minusSeconds(TTL_SECONDS),
+			expiresAt.plus(RING));
+		revocationList.revoke(previousCycle);
+
+		// when
+		revocationList.revoke(nextCycle);
+
+		// then
+		assertThat(revocationList.isRevoked(nextCycle)).isTrue();
+		assertThat(revocationList.isRevoked(previousCycle)).isFalse();
+	}
+
+	@Test
+	@DisplayName("회원 단위 폐기는 지정 시각 이전 발급 토큰만 거절")
+	void revokeAllIssuedBefore_RejectsEarlierTokensOnly() {
+		// given
+		Instant revokedAt = Instant.now();
+		Instant expiresAt = revokedAt.plusSeconds(TTL_SECONDS);
+
+		// when
+		revocationList.revokeAllIssuedBefore(1L, revokedAt);
+
+		// then
+		assertThat(revocationList.isRevoked(claims(1L, "earlier", revokedAt.minusSeconds(30), expiresAt))).isTrue();
+		assertThat(revocationList.isRevoked(claims(1L, "same-second", revokedAt, expiresAt))).isTrue();
+		assertThat(revocationList.isRevoked(claims(1L, "later", revokedAt.plusSeconds(1), expiresAt))).isFalse();
+		assertThat(revocationList.isRevoked(claims(2L, "other-member", revokedAt.minusSeconds(30), expiresAt)))
+			.isFalse();
+	}
+
+	@Test
+	@DisplayName("워터마크는 가장 늦은 시각으로만 갱신")
+	void revokeAllIssuedBefore_KeepsLatestWatermark() {
+		// given
+		Instant later = Instant.now();
+		Instant earlier = later.minusSeconds(60);
+		Instant expiresAt = later.plusSeconds(TTL_SECONDS);
+
+		// when
+		revocationList.revokeAllIssuedBefore(1L, later);
+		revocationList.revokeAllIssuedBefore(1L, earlier);
+
+		// then
+		assertThat(revocationList.isRevoked(claims(1L, "between", earlier.plusSeconds(30), expiresAt))).isTrue();
+	}
+
+	@Test
+	@DisplayName("토큰 수명이 지난 워터마크는 정리")
+	void pruneWatermarks_RemovesStaleWatermark() {
+		// given
+		Instant staleAt = Instant.now().minusSeconds(TTL_SECONDS + 60);
+		Instant recentAt = Instant.now();
+		revocationList.revokeAllIssuedBefore(1L, staleAt);
+		revocationList.revokeAllIssuedBefore(2L, recentAt);
+
+		// when
+		revocationList.pruneWatermarks();
+
+		// then
+		assertThat(revocationList.isRevoked(claims(1L, "stale", staleAt.minusSeconds(1), staleAt.plusSeconds(60))))
+			.isFalse();
+		assertThat(revocationList.isRevoked(claims(2L, "recent", recentAt.minusSeconds(1),
+			recentAt.plusSeconds(TTL_SECONDS)))).isTrue();
+	}
+
+	private JwtClaims claims(Long memberId, String tokenId, Instant issuedAt, Instant expiresAt) {
+		return new JwtClaims(memberId, "test@example.com", null, tokenId, issuedAt, expiresAt);
+	}
+}
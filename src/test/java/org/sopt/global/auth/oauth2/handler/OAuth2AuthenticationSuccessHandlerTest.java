@@ -0,0 +1,88 @@
+package org.sopt.global.auth.oauth2.handler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sopt.domain.auth.exception.AuthException;
+import org.sopt.global.auth.oauth2.service.OAuth2TempCodeService;
+import org.sopt.global.auth.security.CustomUserDetails;
+import org.sopt.global.response.error.ErrorCode;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2AuthenticationSuccessHandlerTest {
+
+	@Mock
+	private OAuth2TempCodeService tempCodeService;
+
+	@InjectMocks
+	private OAuth2AuthenticationSuccessHandler successHandler;
+
+	private final TestingAuthenticationToken authentication = new TestingAuthenticationToken(
+		new CustomUserDetails(1L, "test@example.com", null), null);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(successHandler, "redirectUrl", "http://localhost/oauth2/redirect");
+		ReflectionTestUtils.setField(successHandler, "failureRedirectUrl", "http://localhost/login");
+	}
+
+	@Test
+	@DisplayName("임시 코드 발급 성공 시 코드와 함께 리다이렉트")
+	void onAuthenticationSuccess_RedirectsWithCode() throws IOException {
+		// given
+		given(tempCodeService.generateCode(1L, "test@example.com")).willReturn("temp-code");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		successHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response, authentication);
+
+		// then
+		assertThat(response.getRedirectedUrl()).isEqualTo("http://localhost/oauth2/redirect?code=temp-code");
+	}
+
+	@Test
+	@DisplayName("임시 코드 저장소가 가득 차면 세션을 만들지 않고 실패 페이지로 리다이렉트")
+	void onAuthenticationSuccess_CapacityExceeded() throws IOException {
+		// given
+		given(tempCodeService.generateCode(1L, "test@example.com"))
+			.willThrow(new AuthException(ErrorCode.OAUTH2_TEMP_CODE_CAPACITY_EXCEEDED));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		successHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response, authentication);
+
+		// then
+		assertThat(response.getRedirectedUrl()).isEqualTo("http://localhost/login?error=A408");
+		then(tempCodeService).should().generateCode(1L, "test@example.com");
+		then(tempCodeService).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	@DisplayName("실패 URL에 error 파라미터가 이미 있어도 에러 코드 하나만 전달")
+	void onAuthenticationSuccess_CapacityExceeded_ReplacesErrorParam() throws IOException {
+		// given
+		ReflectionTestUtils.setField(successHandler, "failureRedirectUrl", "http://localhost/login?error=true&lang=ko");
+		given(tempCodeService.generateCode(1L, "test@example.com"))
+			.willThrow(new AuthException(ErrorCode.OAUTH2_TEMP_CODE_CAPACITY_EXCEEDED));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		successHandler.onAuthenticationSuccess(new MockHttpServletRequest(), response, authentication);
+
+		// then
+		assertThat(response.getRedirectedUrl()).isEqualTo("http://localhost/login?lang=ko&error=A408");
+	}
+}
@@ -0,0 +1,113 @@
+package org.sopt.global.auth.oauth2.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.domain.auth.exception.AuthException;
+import org.sopt.global.response.error.ErrorCode;
+
+class InMemoryOAuth2TempCodeStoreTest {
+
+	private static final long START_MILLIS = 1_700_000_000_000L;
+	private static final long TTL_MILLIS = 30_000;
+	private static final TempCodeGrant GRANT = new TempCodeGrant(1L, "test@example.com");
+
+	private final AtomicLong now = new AtomicLong(START_MILLIS);
+	private InMemoryOAuth2TempCodeStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new InMemoryOAuth2TempCodeStore(2, now::get);
+	}
+
+	@Test
+	@DisplayName("발급한 코드는 한 번만 소비 가능")
+	void consume_OnlyOnce() {
+		// given
+		store.save("code", GRANT, START_MILLIS + TTL_MILLIS);
+
+		// when & then
+		assertThat(store.consume("code")).contains(GRANT);
+		assertThat(store.consume("code")).isEmpty();
+		assertThat(store.getLiveCodeCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지나면 휠 틱 전이라도 소비 불가")
+	void consume_ExpiredBeforeTick() {
+		// given
+		store.save("code", GRANT, START_MILLIS + TTL_MILLIS);
+
+		// when
+		now.set(START_MILLIS + TTL_MILLIS + 1);
+
+		// then
+		assertThat(store.consume("code")).isEmpty();
+		assertThat(store.getExpiredCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("휠이 만료 시각의 슬롯에 도달하면 코드를 제거")
+	void advanceWheel_ExpiresAfterTtl() {
+		// given
+		store.save("code", GRANT, START_MILLIS + TTL_MILLIS);
+
+		// when
+		advanceSeconds(TTL_MILLIS / 1000 - 1);
+		int liveBeforeExpiry = store.getLiveCodeCount();
+		advanceSeconds(1);
+
+		// then
+		assertThat(liveBeforeExpiry).isEqualTo(1);
+		assertThat(store.getLiveCodeCount()).isZero();
+		assertThat(store.getExpiredCount()).isEqualTo(1);
+		assertThat(store.consume("code")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("휠 한 바퀴(64초)보다 긴 수명의 코드는 다음 바퀴까지 유지")
+	void advanceWheel_KeepsCodeLongerThanOneRevolution() {
+		// given
+		long ttlMillis = 100_000;
+		store.save("code", GRANT, START_MILLIS + ttlMillis);
+
+		// when
+		advanceSeconds(ttlMillis / 1000 - 1);
+		int liveBeforeExpiry = store.getLiveCodeCount();
+		advanceSeconds(1);
+
+		// then
+		assertThat(liveBeforeExpiry).isEqualTo(1);
+		assertThat(store.getLiveCodeCount()).isZero();
+		assertThat(store.getExpiredCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("max-codes에 도달하면 새 코드를 거절하고, 소비로 자리가 나면 다시 발급")
+	void save_RejectsAtCapacity() {
+		// given
+		store.save("code-1", GRANT, START_MILLIS + TTL_MILLIS);
+		store.save("code-2", GRANT, START_MILLIS + TTL_MILLIS);
+
+		// when & then
+		assertThatThrownBy(() -> store.save("code-3", GRANT, START_MILLIS + TTL_MILLIS))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.OAUTH2_TEMP_CODE_CAPACITY_EXCEEDED);
+		assertThat(store.getRejectedCount()).isEqualTo(1);
+		assertThat(store.consume("code-1")).contains(GRANT);
+
+		store.save("code-3", GRANT, START_MILLIS + TTL_MILLIS);
+		assertThat(store.getLiveCodeCount()).isEqualTo(2);
+	}
+
+	private void advanceSeconds(long seconds) {
+		for (long i = 0; i < seconds; i++) {
+			now.addAndGet(1_000);
+			store.advanceWheel();
+		}
+	}
+}
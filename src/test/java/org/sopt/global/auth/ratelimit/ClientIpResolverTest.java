@@ -0,0 +1,66 @@
+package org.sopt.global.auth.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.domain.auth.exception.LoginRateLimitException;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+	private static final String LOAD_BALANCER = "10.0.0.5";
+
+	private final LoginRateLimitProperties properties = new LoginRateLimitProperties();
+	private final ClientIpResolver resolver = new ClientIpResolver(properties);
+
+	@Test
+	@DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For의 클라이언트 주소를 사용")
+	void resolve_UsesForwardedClientBehindTrustedProxy() {
+		// when & then
+		assertThat(resolver.resolve(request(LOAD_BALANCER, "203.0.113.7"))).isEqualTo("203.0.113.7");
+		assertThat(resolver.resolve(request(LOAD_BALANCER, "203.0.113.7, 10.0.1.2"))).isEqualTo("203.0.113.7");
+	}
+
+	@Test
+	@DisplayName("클라이언트가 앞쪽에 끼워 넣은 주소는 무시")
+	void resolve_IgnoresSpoofedLeadingHops() {
+		// when & then
+		assertThat(resolver.resolve(request(LOAD_BALANCER, "1.2.3.4, 203.0.113.7"))).isEqualTo("203.0.113.7");
+	}
+
+	@Test
+	@DisplayName("신뢰하지 않는 곳에서 직접 온 요청은 X-Forwarded-For를 무시")
+	void resolve_IgnoresHeaderFromUntrustedPeer() {
+		// when & then
+		assertThat(resolver.resolve(request("198.51.100.9", "203.0.113.7"))).isEqualTo("198.51.100.9");
+		assertThat(resolver.resolve(request(LOAD_BALANCER, null))).isEqualTo(LOAD_BALANCER);
+	}
+
+	@Test
+	@DisplayName("같은 로드 밸런서를 거쳐도 서로 다른 클라이언트는 IP 버킷을 따로 사용")
+	void resolve_SeparateBucketsPerForwardedClient() {
+		// given
+		properties.setEmail(new LoginRateLimitProperties.Limit(1_000, properties.getEmail().getRefillInterval()));
+		LoginRateLimiter rateLimiter = new LoginRateLimiter(properties, () -> 0L);
+		String first = resolver.resolve(request(LOAD_BALANCER, "203.0.113.7"));
+		String second = resolver.resolve(request(LOAD_BALANCER, "203.0.113.8"));
+		for (int i = 0; i < properties.getIp().getBurst(); i++) {
+			rateLimiter.acquire("user" + i + "@example.com", first);
+		}
+
+		// when & then
+		assertThatThrownBy(() -> rateLimiter.acquire("other@example.com", first))
+			.isInstanceOf(LoginRateLimitException.class);
+		assertThatCode(() -> rateLimiter.acquire("other@example.com", second)).doesNotThrowAnyException();
+	}
+
+	private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr(remoteAddr);
+		if (forwardedFor != null) {
+			request.addHeader("X-Forwarded-For", forwardedFor);
+		}
+		return request;
+	}
+}
@@ -0,0 +1,128 @@
+package org.sopt.global.auth.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.domain.auth.exception.LoginRateLimitException;
+import org.sopt.global.response.error.ErrorCode;
+
+class LoginRateLimiterTest {
+
+	private static final int EMAIL_BURST = 5;
+	private static final Duration EMAIL_INTERVAL = Duration.ofSeconds(12);
+	private static final int IP_BURST = 20;
+	private static final Duration IP_INTERVAL = Duration.ofSeconds(1);
+
+	private final AtomicLong now = new AtomicLong();
+	private LoginRateLimiter rateLimiter;
+
+	@BeforeEach
+	void setUp() {
+		LoginRateLimitProperties properties = new LoginRateLimitProperties();
+		properties.setEmail(new LoginRateLimitProperties.Limit(EMAIL_BURST, EMAIL_INTERVAL));
+		properties.setIp(new LoginRateLimitProperties.Limit(IP_BURST, IP_INTERVAL));
+		rateLimiter = new LoginRateLimiter(properties, now::get);
+	}
+
+	@Test
+	@DisplayName("같은 이메일로 연속 시도 허용량을 넘기면 거절하고, 다음 허용까지 남은 시간을 알림")
+	void acquire_RejectsAfterBurst() {
+		// given
+		for (int i = 0; i < EMAIL_BURST; i++) {
+			rateLimiter.acquire("user@example.com", "10.0.0." + i);
+		}
+
+		// when & then
+		assertThatThrownBy(() -> rateLimiter.acquire("user@example.com", "10.0.0.100"))
+			.isInstanceOf(LoginRateLimitException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS)
+			.hasFieldOrPropertyWithValue("retryAfterSeconds", EMAIL_INTERVAL.toSeconds());
+	}
+
+	@Test
+	@DisplayName("남은 대기 시간은 흐른 시간만큼 줄어들고 초 단위로 올림")
+	void acquire_RetryAfterShrinksOverTime() {
+		// given
+		for (int i = 0; i < EMAIL_BURST; i++) {
+			rateLimiter.acquire("user@example.com", null);
+		}
+
+		// when
+		advance(Duration.ofMillis(4_500));
+
+		// then
+		assertThatThrownBy(() -> rateLimiter.acquire("user@example.com", null))
+			.isInstanceOf(LoginRateLimitException.class)
+			.hasFieldOrPropertyWithValue("retryAfterSeconds", 8L);
+	}
+
+	@Test
+	@DisplayName("거절된 뒤 재충전 간격이 지나면 한 번 더 허용")
+	void acquire_RefillsAfterInterval() {
+		// given
+		for (int i = 0; i < EMAIL_BURST; i++) {
+			rateLimiter.acquire("user@example.com", null);
+		}
+		assertThatThrownBy(() -> rateLimiter.acquire("user@example.com", null))
+			.isInstanceOf(LoginRateLimitException.class);
+
+		// when
+		advance(EMAIL_INTERVAL);
+
+		// then
+		assertThatCode(() -> rateLimiter.acquire("user@example.com", null)).doesNotThrowAnyException();
+		assertThatThrownBy(() -> rateLimiter.acquire("user@example.com", null))
+			.isInstanceOf(LoginRateLimitException.class);
+	}
+
+	@Test
+	@DisplayName("이메일 제한은 같은 IP의 다른 계정에 영향을 주지 않음")
+	void acquire_EmailLimitIndependentOfIp() {
+		// given
+		for (int i = 0; i < EMAIL_BURST; i++) {
+			rateLimiter.acquire("victim@example.com", "10.0.0.1");
+		}
+
+		// when & then
+		assertThatThrownBy(() -> rateLimiter.acquire("victim@example.com", "10.0.0.2"))
+			.isInstanceOf(LoginRateLimitException.class);
+		assertThatCode(() -> rateLimiter.acquire("other@example.com", "10.0.0.1")).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("IP 제한은 계정과 무관하게 적용되고 다른 IP에는 영향을 주지 않음")
+	void acquire_IpLimitIndependentOfEmail() {
+		// given
+		for (int i = 0; i < IP_BURST; i++) {
+			rateLimiter.acquire("user" + i + "@example.com", "10.0.0.1");
+		}
+
+		// when & then
+		assertThatThrownBy(() -> rateLimiter.acquire("new@example.com", "10.0.0.1"))
+			.isInstanceOf(LoginRateLimitException.class)
+			.hasFieldOrPropertyWithValue("retryAfterSeconds", IP_INTERVAL.toSeconds());
+		assertThatCode(() -> rateLimiter.acquire("new@example.com", "10.0.0.2")).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("이메일은 대소문자와 앞뒤 공백을 무시하고 같은 버킷으로 취급")
+	void acquire_NormalizesEmail() {
+		// given
+		for (int i = 0; i < EMAIL_BURST; i++) {
+			rateLimiter.acquire("User@Example.com", null);
+		}
+
+		// when & then
+		assertThatThrownBy(() -> rateLimiter.acquire(" user@example.com ", null))
+			.isInstanceOf(LoginRateLimitException.class);
+	}
+
+	private void advance(Duration duration) {
+		now.addAndGet(duration.toNanos());
+	}
+}
@@ -0,0 +1,41 @@
+package org.sopt.global.exception;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sopt.domain.auth.exception.AuthException;
+import org.sopt.domain.auth.exception.LoginRateLimitException;
+import org.sopt.global.response.CommonApiResponse;
+import org.sopt.global.response.error.ErrorCode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+class GlobalExceptionHandlerTest {
+
+	private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+
+	@Test
+	@DisplayName("로그인 시도 제한은 429와 함께 계산된 Retry-After를 응답")
+	void handleLoginRateLimitException_RetryAfterFromLimiter() {
+		// when
+		ResponseEntity<CommonApiResponse<Void>> response =
+			exceptionHandler.handleLoginRateLimitException(new LoginRateLimitException(12));
+
+		// then
+		assertThat(response.getStatusCode().value()).isEqualTo(429);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("12");
+	}
+
+	@Test
+	@DisplayName("과부하로 인한 503은 고정 Retry-After를 응답")
+	void handleBaseException_ServiceUnavailable() {
+		// when
+		ResponseEntity<CommonApiResponse<Void>> response =
+			exceptionHandler.handleBaseException(new AuthException(ErrorCode.AUTH_SERVER_BUSY));
+
+		// then
+		assertThat(response.getStatusCode().value()).isEqualTo(503);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+	}
+}
@@ -0,0 +1,19 @@
+package org.sopt.global.response.error;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ErrorCodeTest {
+
+	@Test
+	@DisplayName("모든 에러 코드는 서로 달라야 함 (클라이언트는 코드로 토큰 갱신 여부 등을 판단한다)")
+	void codes_AreUnique() {
+		// when & then
+		assertThat(Arrays.stream(ErrorCode.values()).map(ErrorCode::getCode))
+			.doesNotHaveDuplicates();
+	}
+}
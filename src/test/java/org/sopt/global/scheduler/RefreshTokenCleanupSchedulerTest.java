@@ -0,0 +1,95 @@
+package org.sopt.global.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sopt.domain.auth.domain.repository.RefreshTokenRepository;
+import org.sopt.domain.auth.domain.repository.RotatedRefreshTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenCleanupSchedulerTest {
+
+	private static final int CHUNK_SIZE = 10;
+	private static final long PAUSE_MILLIS = 200;
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private RotatedRefreshTokenRepository rotatedRefreshTokenRepository;
+
+	private RefreshTokenCleanupScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new RefreshTokenCleanupScheduler(refreshTokenRepository, rotatedRefreshTokenRepository,
+			CHUNK_SIZE, PAUSE_MILLIS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.destroy();
+	}
+
+	@Test
+	@DisplayName("정리 작업은 스케줄러 스레드를 붙잡지 않고 테이블마다 청크를 끝까지 이어서 삭제")
+	void cleanupExpiredTokens_DoesNotBlockSchedulerThread() throws InterruptedException {
+		// given
+		CountDownLatch lastChunk = new CountDownLatch(1);
+		given(refreshTokenRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+			.willReturn(CHUNK_SIZE, CHUNK_SIZE, 3);
+		given(rotatedRefreshTokenRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+			.willAnswer(invocation -> {
+				lastChunk.countDown();
+				return 3;
+			});
+
+		// when
+		long startedAt = System.nanoTime();
+		scheduler.cleanupExpiredTokens();
+		long tookMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		// then
+		assertThat(tookMillis).isLessThan(PAUSE_MILLIS);
+		assertThat(lastChunk.await(5, TimeUnit.SECONDS)).isTrue();
+		then(refreshTokenRepository).should(times(3)).deleteExpiredChunk(any(LocalDateTime.class), eq(CHUNK_SIZE));
+		then(rotatedRefreshTokenRepository).should().deleteExpiredChunk(any(LocalDateTime.class), eq(CHUNK_SIZE));
+	}
+
+	@Test
+	@DisplayName("이전 정리 작업이 진행 중이면 새 작업을 시작하지 않음")
+	void cleanupExpiredTokens_SkipsWhileRunning() throws InterruptedException {
+		// given
+		CountDownLatch firstChunkStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirstChunk = new CountDownLatch(1);
+		given(refreshTokenRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+			.willAnswer(invocation -> {
+				firstChunkStarted.countDown();
+				releaseFirstChunk.await(5, TimeUnit.SECONDS);
+				return 0;
+			});
+		given(rotatedRefreshTokenRepository.deleteExpiredChunk(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+			.willReturn(0);
+
+		// when
+		scheduler.cleanupExpiredTokens();
+		assertThat(firstChunkStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		scheduler.cleanupExpiredTokens();
+		releaseFirstChunk.countDown();
+
+		// then
+		then(refreshTokenRepository).should(timeout(1000).times(1))
+			.deleteExpiredChunk(any(LocalDateTime.class), eq(CHUNK_SIZE));
+	}
+}